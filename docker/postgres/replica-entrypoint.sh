@@ -0,0 +1,17 @@
+#!/bin/bash
+# Hot standby of the "postgres" service. Clones the primary on first start, then follows it.
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until pg_isready -h postgres -p 5432 -U "$POSTGRES_USER"; do
+    sleep 1
+  done
+  mkdir -p "$PGDATA"
+  chown postgres:postgres "$PGDATA"
+  chmod 700 "$PGDATA"
+  gosu postgres pg_basebackup \
+    -d "host=postgres port=5432 user=$POSTGRES_USER password=$POSTGRES_PASSWORD" \
+    -D "$PGDATA" -X stream -R
+fi
+
+exec gosu postgres postgres -D "$PGDATA" -c hot_standby=on
@@ -0,0 +1,138 @@
+package org.services.usermanagementservice.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.*;
+import org.services.usermanagementservice.cache.RegisteredEmails;
+import org.services.usermanagementservice.cache.UserCache;
+import org.services.usermanagementservice.cache.UserCacheInvalidator;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.entity.User;
+import org.services.usermanagementservice.exception.GlobalExceptionHandler;
+import org.services.usermanagementservice.pagination.PagingPolicy;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
+import org.services.usermanagementservice.repository.UserRepository;
+import org.services.usermanagementservice.service.UserBulkService;
+import org.services.usermanagementservice.service.UserChangeService;
+import org.services.usermanagementservice.service.UserExportService;
+import org.services.usermanagementservice.service.UserSearchService;
+import org.services.usermanagementservice.service.UserService;
+import org.services.usermanagementservice.service.UserSyncService;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * End-to-end request handling through the MVC stack: argument resolution, validation, the real
+ * UserService and UserCache, and JSON serialization. Only the repository is stubbed, so the
+ * numbers exclude the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserControllerBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+
+  private final AtomicLong sequence = new AtomicLong();
+
+  private MockMvc mockMvc;
+  private UUID cachedId;
+
+  @Setup
+  public void setUp() throws Exception {
+    // stubOnly: no invocation recording, so the stub does not grow or skew the measurements.
+    UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+
+    LocalDateTime now = LocalDateTime.now();
+    cachedId = UUID.randomUUID();
+    when(userRepository.findResponseById(cachedId)).thenReturn(Optional.of(user(cachedId, now)));
+
+    List<UserResponseDto> page = new ArrayList<>(PAGE_SIZE);
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      page.add(user(UUID.randomUUID(), now));
+    }
+    when(userRepository.findResponsePage(any()))
+        .thenAnswer(invocation -> new PageImpl<>(page, invocation.getArgument(0), 10_000L));
+
+    when(userRepository.saveAndFlush(any(User.class)))
+        .thenAnswer(invocation -> {
+          User user = invocation.getArgument(0);
+          user.setId(UUID.randomUUID());
+          return user;
+        });
+
+    UserService userService =
+        new UserService(
+            userRepository,
+            mock(UserOutboxRepository.class, withSettings().stubOnly()),
+            new UserCache(10_000, Duration.ofMinutes(10)),
+            mock(RegisteredEmails.class, withSettings().stubOnly()),
+            mock(UserCacheInvalidator.class, withSettings().stubOnly()));
+
+    UserController controller =
+        new UserController(
+            userService,
+            mock(UserExportService.class, withSettings().stubOnly()),
+            mock(UserBulkService.class, withSettings().stubOnly()),
+            mock(UserSearchService.class, withSettings().stubOnly()),
+            mock(UserChangeService.class, withSettings().stubOnly()),
+            mock(UserSyncService.class, withSettings().stubOnly()),
+            new PagingPolicy(10, 100, 10_000, 1000));
+
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+            .build();
+
+    // Warm the cache so getUser measures the steady-state hit path.
+    mockMvc.perform(get("/api/users/{id}", cachedId));
+  }
+
+  private static UserResponseDto user(UUID id, LocalDateTime now) {
+    return new UserResponseDto(
+        id, "Jane Doe", id + "@example.com", "+1-555-0100", "USER", true, now, now, 0L);
+  }
+
+  @Benchmark
+  public MockHttpServletResponse getUser() throws Exception {
+    return mockMvc.perform(get("/api/users/{id}", cachedId)).andReturn().getResponse();
+  }
+
+  @Benchmark
+  public MockHttpServletResponse getUsersPage() throws Exception {
+    return mockMvc
+        .perform(get("/api/users").param("page", "0").param("size", String.valueOf(PAGE_SIZE)))
+        .andReturn()
+        .getResponse();
+  }
+
+  @Benchmark
+  public MockHttpServletResponse createUser() throws Exception {
+    // A fresh email per call, otherwise the cache rejects it as a duplicate.
+    String body =
+        "{\"name\":\"Jane Doe\",\"email\":\"jane"
+            + sequence.incrementAndGet()
+            + "@example.com\",\"phone\":\"+1-555-0100\",\"role\":\"USER\",\"active\":true}";
+    return mockMvc
+        .perform(post("/api/users").contentType(MediaType.APPLICATION_JSON).content(body))
+        .andReturn()
+        .getResponse();
+  }
+}
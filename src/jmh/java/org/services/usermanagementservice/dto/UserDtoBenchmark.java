@@ -0,0 +1,117 @@
+package org.services.usermanagementservice.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * JSON and CBOR serialization of the response envelopes and bean validation of incoming requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserDtoBenchmark {
+
+  private ObjectMapper objectMapper;
+  private ObjectMapper cborMapper;
+  private ValidatorFactory validatorFactory;
+  private Validator validator;
+
+  private CommonResponse<UserResponseDto> single;
+  private UserRequestDto validRequest;
+  private UserRequestDto invalidRequest;
+
+  @Setup
+  public void setUp() {
+    // Same defaults Spring Boot applies to the ObjectMapper it auto-configures.
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    validator = validatorFactory.getValidator();
+
+    single = CommonResponse.success("User retrieved successfully", user(0));
+
+    validRequest = new UserRequestDto("Jane Doe", "jane@example.com", "+1-555-0100", "USER", true);
+    invalidRequest = new UserRequestDto("", "not-an-email", null, " ", true);
+  }
+
+  /** Page payloads, kept separate so only the page benchmark is repeated per size. */
+  @State(Scope.Benchmark)
+  public static class PageState {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private CommonResponse<Page<UserResponseDto>> page;
+
+    @Setup
+    public void setUp() {
+      List<UserResponseDto> users = new ArrayList<>(pageSize);
+      for (int i = 0; i < pageSize; i++) {
+        users.add(user(i));
+      }
+      page =
+          CommonResponse.success(
+              "Users fetched successfully",
+              new PageImpl<>(users, PageRequest.of(0, pageSize), 10_000));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  private static UserResponseDto user(int i) {
+    LocalDateTime now = LocalDateTime.now();
+    return new UserResponseDto(
+        UUID.randomUUID(),
+        "User " + i,
+        "user" + i + "@example.com",
+        "+1-555-0100",
+        "USER",
+        true,
+        now,
+        now,
+        (long) i);
+  }
+
+  @Benchmark
+  public byte[] serializeSingle() throws Exception {
+    return objectMapper.writeValueAsBytes(single);
+  }
+
+  @Benchmark
+  public byte[] serializePage(PageState state) throws Exception {
+    return objectMapper.writeValueAsBytes(state.page);
+  }
+
+  @Benchmark
+  public byte[] serializePageCbor(PageState state) throws Exception {
+    return cborMapper.writeValueAsBytes(state.page);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<UserRequestDto>> validateValidRequest() {
+    return validator.validate(validRequest);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<UserRequestDto>> validateInvalidRequest() {
+    return validator.validate(invalidRequest);
+  }
+}
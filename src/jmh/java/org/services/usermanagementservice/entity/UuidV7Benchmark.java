@@ -0,0 +1,37 @@
+package org.services.usermanagementservice.entity;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Id generation cost, single-threaded and contended. Insert throughput and index size against
+ * Postgres are measured by the idBenchmark load-test task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UuidV7Benchmark {
+
+  @Benchmark
+  public UUID randomV4() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  public UUID timeOrderedV7() {
+    return UuidV7.generate();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public UUID randomV4Contended() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public UUID timeOrderedV7Contended() {
+    return UuidV7.generate();
+  }
+}
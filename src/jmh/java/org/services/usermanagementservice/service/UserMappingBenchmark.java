@@ -0,0 +1,38 @@
+package org.services.usermanagementservice.service;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.entity.User;
+
+/** Entity construction and entity-to-DTO mapping, as done on every write. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMappingBenchmark {
+
+  private User user;
+
+  @Setup
+  public void setUp() {
+    user = new User("Jane Doe", "jane.doe@example.com", "+1-555-0100", "USER");
+    user.setId(UUID.randomUUID());
+  }
+
+  @Benchmark
+  public UserResponseDto toResponseDto() {
+    return UserService.toResponseDto(user);
+  }
+
+  @Benchmark
+  public User constructAndSet() {
+    User created = new User("Jane Doe", "jane.doe@example.com", "+1-555-0100", "USER");
+    created.setName("Jane Smith");
+    created.setEmail("jane.smith@example.com");
+    created.setPhone("+1-555-0101");
+    created.setRole("ADMIN");
+    created.setActive(false);
+    return created;
+  }
+}
@@ -0,0 +1,54 @@
+package org.services.usermanagementservice.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/** --key=value command-line options, as passed through by the Gradle tasks. */
+final class Args {
+
+  private final Map<String, String> values = new HashMap<>();
+
+  Args(String[] args) {
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --key=value, got " + arg);
+      }
+      int eq = arg.indexOf('=');
+      values.put(arg.substring(2, eq), arg.substring(eq + 1));
+    }
+  }
+
+  String get(String key, String defaultValue) {
+    return values.getOrDefault(key, defaultValue);
+  }
+
+  long getLong(String key, long defaultValue) {
+    String value = values.get(key);
+    return value == null ? defaultValue : Long.parseLong(value.replace("_", ""));
+  }
+
+  boolean getBoolean(String key) {
+    return Boolean.parseBoolean(values.get(key));
+  }
+
+  /** Accepts 90s, 5m or a bare number of seconds. */
+  Duration getDuration(String key, Duration defaultValue) {
+    String value = values.get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+    if (value.endsWith("m")) {
+      return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+    }
+    if (value.endsWith("s")) {
+      return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+    }
+    return Duration.ofSeconds(Long.parseLong(value));
+  }
+
+  static String env(String name, String defaultValue) {
+    String value = System.getenv(name);
+    return value == null || value.isBlank() ? defaultValue : value;
+  }
+}
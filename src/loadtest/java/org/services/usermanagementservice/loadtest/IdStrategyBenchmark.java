@@ -0,0 +1,121 @@
+package org.services.usermanagementservice.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.services.usermanagementservice.entity.UuidV7;
+
+/**
+ * Compares random (v4) and time-ordered (v7) primary keys on a users-shaped table: batched insert
+ * throughput, primary key index size and WAL written. Each strategy gets a fresh scratch table
+ * with only the primary key index, so the numbers isolate the id. Connects with the DB_* variables
+ * like {@link DatasetSeeder}.
+ *
+ * <p>Options: --rows=N (default 1000000), --batch=N (default 1000), --keep=true to leave the
+ * scratch tables behind for inspection.
+ */
+public final class IdStrategyBenchmark {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO %s (id, name, email, phone, role, active, created_at, updated_at, version)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+  private IdStrategyBenchmark() {}
+
+  public static void main(String[] argv) throws SQLException {
+    Args args = new Args(argv);
+    long rows = args.getLong("rows", 1_000_000);
+    int batch = (int) args.getLong("batch", 1000);
+    SyntheticUsers dataset = new SyntheticUsers(42);
+
+    String url =
+        "jdbc:postgresql://"
+            + Args.env("DB_HOST", "localhost")
+            + ":"
+            + Args.env("DB_PORT", "5432")
+            + "/"
+            + Args.env("DB_NAME", "postgres")
+            + "?reWriteBatchedInserts=true";
+
+    try (Connection connection =
+        DriverManager.getConnection(
+            url, Args.env("DB_USERNAME", "postgres"), Args.env("DB_PASSWORD", "postgres"))) {
+      connection.setAutoCommit(false);
+
+      System.out.printf("%-4s %12s %14s %14s %14s%n", "id", "seconds", "rows/s", "pk index", "WAL");
+      run(connection, "v4", UUID::randomUUID, dataset, rows, batch, args.getBoolean("keep"));
+      run(connection, "v7", UuidV7::generate, dataset, rows, batch, args.getBoolean("keep"));
+    }
+  }
+
+  private static void run(
+      Connection connection,
+      String name,
+      Supplier<UUID> ids,
+      SyntheticUsers dataset,
+      long rows,
+      int batch,
+      boolean keep)
+      throws SQLException {
+    String table = "id_bench_" + name;
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + table);
+      statement.execute("CREATE TABLE " + table + " (LIKE users INCLUDING DEFAULTS)");
+      statement.execute("ALTER TABLE " + table + " ADD PRIMARY KEY (id)");
+    }
+    connection.commit();
+
+    long walBefore = queryLong(connection, "SELECT pg_current_wal_lsn() - '0/0'::pg_lsn");
+    long started = System.nanoTime();
+    try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL.formatted(table))) {
+      for (long n = 0; n < rows; n++) {
+        Timestamp createdAt = Timestamp.valueOf(dataset.createdAt(n));
+        insert.setObject(1, ids.get());
+        insert.setString(2, dataset.name(n));
+        insert.setString(3, dataset.email(n));
+        insert.setString(4, dataset.phone(n));
+        insert.setString(5, dataset.role(n));
+        insert.setBoolean(6, dataset.active(n));
+        insert.setTimestamp(7, createdAt);
+        insert.setTimestamp(8, createdAt);
+        insert.addBatch();
+        if ((n + 1) % batch == 0 || n + 1 == rows) {
+          insert.executeBatch();
+          connection.commit();
+        }
+      }
+    }
+    double seconds = (System.nanoTime() - started) / 1e9;
+    long wal = queryLong(connection, "SELECT pg_current_wal_lsn() - '0/0'::pg_lsn") - walBefore;
+    long indexBytes = queryLong(connection, "SELECT pg_relation_size('" + table + "_pkey')");
+
+    System.out.printf(
+        "%-4s %12.1f %,14.0f %14s %14s%n",
+        name, seconds, rows / seconds, megabytes(indexBytes), megabytes(wal));
+
+    if (!keep) {
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("DROP TABLE " + table);
+      }
+      connection.commit();
+    }
+  }
+
+  private static long queryLong(Connection connection, String sql) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet result = statement.executeQuery(sql)) {
+      result.next();
+      return result.getLong(1);
+    }
+  }
+
+  private static String megabytes(long bytes) {
+    return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+  }
+}
@@ -0,0 +1,109 @@
+package org.services.usermanagementservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-operation latency histograms (HdrHistogram, so percentiles are exact to 3 significant
+ * digits) and status-code counts. Status -1 stands for a request that got no response.
+ */
+final class LoadReport {
+
+  private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+  private final Map<Operation, Map<Integer, LongAdder>> statuses = new EnumMap<>(Operation.class);
+
+  LoadReport() {
+    for (Operation operation : Operation.values()) {
+      latencies.put(operation, new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3));
+      statuses.put(operation, new ConcurrentHashMap<>());
+    }
+  }
+
+  void record(Operation operation, int status, long latencyNanos) {
+    latencies.get(operation).recordValue(Math.min(latencyNanos, TimeUnit.MINUTES.toNanos(1)));
+    statuses.get(operation).computeIfAbsent(status, key -> new LongAdder()).increment();
+  }
+
+  void print(Duration elapsed) {
+    System.out.printf(
+        "%n%-8s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+        "op", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "statuses");
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = latencies.get(operation);
+      if (histogram.getTotalCount() == 0) {
+        continue;
+      }
+      System.out.printf(
+          "%-8s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+          operation.key(),
+          histogram.getTotalCount(),
+          histogram.getTotalCount() / seconds(elapsed),
+          millis(histogram.getValueAtPercentile(50)),
+          millis(histogram.getValueAtPercentile(90)),
+          millis(histogram.getValueAtPercentile(99)),
+          millis(histogram.getValueAtPercentile(99.9)),
+          millis(histogram.getMaxValue()),
+          statusCounts(operation));
+    }
+  }
+
+  void writeJson(Path path, Map<String, Object> config, Duration elapsed) throws IOException {
+    Map<String, Object> operations = new LinkedHashMap<>();
+    long total = 0;
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = latencies.get(operation);
+      total += histogram.getTotalCount();
+      Map<String, Object> stats = new LinkedHashMap<>();
+      stats.put("count", histogram.getTotalCount());
+      stats.put("throughput", histogram.getTotalCount() / seconds(elapsed));
+      stats.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+      stats.put("p90Ms", millis(histogram.getValueAtPercentile(90)));
+      stats.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+      stats.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+      stats.put("maxMs", millis(histogram.getMaxValue()));
+      stats.put("statuses", statusCounts(operation));
+      operations.put(operation.key(), stats);
+    }
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("config", config);
+    report.put("elapsedSeconds", seconds(elapsed));
+    report.put("requests", total);
+    report.put("throughput", total / seconds(elapsed));
+    report.put("operations", operations);
+
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .writeValue(path.toFile(), report);
+  }
+
+  private Map<Integer, Long> statusCounts(Operation operation) {
+    Map<Integer, Long> counts = new TreeMap<>();
+    statuses.get(operation).forEach((status, count) -> counts.put(status, count.sum()));
+    return counts;
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1e6;
+  }
+
+  private static double seconds(Duration elapsed) {
+    return Math.max(1e-9, elapsed.toNanos() / 1e9);
+  }
+}
@@ -0,0 +1,173 @@
+package org.services.usermanagementservice.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator: requests start on a fixed schedule (--rate per second) whether or not
+ * earlier ones have finished, each on its own virtual thread. Latency is measured from the
+ * scheduled start, so a stalled service shows up as queueing delay instead of silently lowering
+ * the offered load (coordinated omission).
+ *
+ * <p>Addresses the dataset written by {@link DatasetSeeder}; pass the same --users and --seed.
+ * Other options: --baseUrl, --duration, --mix (see {@link Operation.Mix}), --clients (distinct
+ * X-Forwarded-For addresses, so per-client rate limits see many callers; honoured because the
+ * runner connects from a trusted proxy address such as localhost), --duplicateRatio (share of
+ * creates that reuse a seeded email and should get 409) and --report.
+ */
+public final class LoadTestRunner {
+
+  private static final int PAGE_SIZE = 20;
+  private static final int MAX_PAGE = 50;
+
+  private LoadTestRunner() {}
+
+  public static void main(String[] argv) throws Exception {
+    Args args = new Args(argv);
+    String baseUrl = args.get("baseUrl", "http://localhost:8080");
+    long users = args.getLong("users", 1_000_000);
+    long seed = args.getLong("seed", 42);
+    long rate = args.getLong("rate", 200);
+    Duration duration = args.getDuration("duration", Duration.ofSeconds(60));
+    long clients = args.getLong("clients", 100);
+    double duplicateRatio = Double.parseDouble(args.get("duplicateRatio", "0.3"));
+    Operation.Mix mix = new Operation.Mix(args.get("mix", null));
+    Path reportPath = Path.of(args.get("report", "build/reports/loadtest/report.json"));
+
+    SyntheticUsers dataset = new SyntheticUsers(seed);
+    SplittableRandom random = new SplittableRandom(seed);
+    LoadReport report = new LoadReport();
+    String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    System.out.printf(
+        "Offering %d req/s for %ds to %s (mix %s, %d clients, %,d seeded users)%n",
+        rate, duration.toSeconds(), baseUrl, mix, clients, users);
+
+    HttpClient http =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+    long start = System.nanoTime();
+    long end = start + duration.toNanos();
+
+    try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long i = 0; ; i++) {
+        long scheduled = start + i * interval;
+        if (scheduled >= end) {
+          break;
+        }
+        long wait = scheduled - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+
+        // Built on this thread so the request sequence is reproducible for a given seed.
+        Operation operation = mix.pick(random);
+        HttpRequest request =
+            request(operation, baseUrl, dataset, users, random, duplicateRatio, runId, i)
+                .header("X-Forwarded-For", clientAddress(i % clients))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        workers.submit(
+            () -> {
+              int status;
+              try {
+                status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+              } catch (Exception ex) {
+                status = -1;
+              }
+              report.record(operation, status, System.nanoTime() - scheduled);
+            });
+      }
+    }
+
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    report.print(elapsed);
+
+    Map<String, Object> config = new LinkedHashMap<>();
+    config.put("baseUrl", baseUrl);
+    config.put("users", users);
+    config.put("seed", seed);
+    config.put("rate", rate);
+    config.put("durationSeconds", duration.toSeconds());
+    config.put("mix", mix.toString());
+    config.put("clients", clients);
+    config.put("duplicateRatio", duplicateRatio);
+    report.writeJson(reportPath, config, elapsed);
+    System.out.println("Report written to " + reportPath.toAbsolutePath());
+  }
+
+  private static HttpRequest.Builder request(
+      Operation operation,
+      String baseUrl,
+      SyntheticUsers dataset,
+      long users,
+      SplittableRandom random,
+      double duplicateRatio,
+      String runId,
+      long sequence) {
+    long n = random.nextLong(users);
+    return switch (operation) {
+      case READ_BY_ID ->
+          HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/" + dataset.id(n)));
+      case PAGE ->
+          HttpRequest.newBuilder(
+              URI.create(
+                  baseUrl + "/api/users?page=" + random.nextInt(MAX_PAGE) + "&size=" + PAGE_SIZE));
+      case CREATE -> {
+        String email =
+            random.nextDouble() < duplicateRatio
+                ? dataset.email(n)
+                : "new-" + runId + "-" + sequence + "@load.test";
+        yield json(
+            baseUrl + "/api/users", "POST", body("Load Test " + sequence, email, dataset, n));
+      }
+      case UPDATE ->
+          json(
+              baseUrl + "/api/users/" + dataset.id(n),
+              "PUT",
+              body(dataset.name(n) + " v" + sequence, dataset.email(n), dataset, n));
+    };
+  }
+
+  /** A distinct TEST-NET-2 address (RFC 5737) per simulated client. */
+  private static String clientAddress(long client) {
+    return "198.51." + (client / 256 % 256) + "." + (client % 256);
+  }
+
+  private static HttpRequest.Builder json(String url, String method, String body) {
+    return HttpRequest.newBuilder(URI.create(url))
+        .header("Content-Type", "application/json")
+        .method(method, HttpRequest.BodyPublishers.ofString(body));
+  }
+
+  private static String body(String name, String email, SyntheticUsers dataset, long n) {
+    return "{\"name\":\""
+        + name
+        + "\",\"email\":\""
+        + email
+        + "\",\"phone\":\""
+        + dataset.phone(n)
+        + "\",\"role\":\""
+        + dataset.role(n)
+        + "\",\"active\":"
+        + dataset.active(n)
+        + "}";
+  }
+}
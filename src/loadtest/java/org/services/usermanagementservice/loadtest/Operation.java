@@ -0,0 +1,82 @@
+package org.services.usermanagementservice.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/** Request types of the mixed workload, with their default share of traffic. */
+enum Operation {
+  READ_BY_ID("read", 60),
+  PAGE("page", 20),
+  CREATE("create", 10),
+  UPDATE("update", 10);
+
+  private final String key;
+  private final int defaultWeight;
+
+  Operation(String key, int defaultWeight) {
+    this.key = key;
+    this.defaultWeight = defaultWeight;
+  }
+
+  String key() {
+    return key;
+  }
+
+  /** Weighted picker, parsed from e.g. read:70,page:10,create:10,update:10. */
+  static final class Mix {
+
+    private final Map<Operation, Integer> weights = new LinkedHashMap<>();
+    private final int total;
+
+    Mix(String spec) {
+      if (spec == null || spec.isBlank()) {
+        for (Operation operation : values()) {
+          weights.put(operation, operation.defaultWeight);
+        }
+      } else {
+        for (String part : spec.split(",")) {
+          String[] kv = part.trim().split(":");
+          weights.put(byKey(kv[0]), Integer.parseInt(kv[1]));
+        }
+      }
+      total = weights.values().stream().mapToInt(Integer::intValue).sum();
+      if (total <= 0) {
+        throw new IllegalArgumentException("Workload mix has no weight: " + spec);
+      }
+    }
+
+    Operation pick(SplittableRandom random) {
+      int ticket = random.nextInt(total);
+      for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+        ticket -= entry.getValue();
+        if (ticket < 0) {
+          return entry.getKey();
+        }
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder spec = new StringBuilder();
+      weights.forEach(
+          (operation, weight) -> {
+            if (!spec.isEmpty()) {
+              spec.append(',');
+            }
+            spec.append(operation.key).append(':').append(weight);
+          });
+      return spec.toString();
+    }
+
+    private static Operation byKey(String key) {
+      for (Operation operation : values()) {
+        if (operation.key.equals(key.trim())) {
+          return operation;
+        }
+      }
+      throw new IllegalArgumentException("Unknown operation in mix: " + key);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package org.services.usermanagementservice.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The synthetic dataset as a pure function of (seed, n): the seeder writes row n and the load
+ * generator can address it later (by id or email) without reading anything back from the
+ * database. The same seed always yields the same table.
+ */
+final class SyntheticUsers {
+
+  private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+  private static final String[] ROLES = {"USER", "USER", "USER", "USER", "ADMIN", "MANAGER"};
+  private static final String[] FIRST = {"Ada", "Alan", "Grace", "Linus", "Ken", "Barbara"};
+  private static final String[] LAST = {"Lovelace", "Turing", "Hopper", "Torvalds", "Liskov"};
+
+  private final long seed;
+
+  SyntheticUsers(long seed) {
+    this.seed = seed;
+  }
+
+  UUID id(long n) {
+    return UUID.nameUUIDFromBytes(("user-" + seed + "-" + n).getBytes(StandardCharsets.UTF_8));
+  }
+
+  String name(long n) {
+    long h = mix(n);
+    return FIRST[(int) Math.floorMod(h, (long) FIRST.length)]
+        + " "
+        + LAST[(int) Math.floorMod(h >>> 16, (long) LAST.length)]
+        + " "
+        + n;
+  }
+
+  String email(long n) {
+    return "user" + n + "." + seed + "@load.test";
+  }
+
+  String phone(long n) {
+    return "+1-555-" + String.format("%07d", Math.floorMod(mix(n), 10_000_000L));
+  }
+
+  String role(long n) {
+    return ROLES[(int) Math.floorMod(mix(n) >>> 8, (long) ROLES.length)];
+  }
+
+  boolean active(long n) {
+    return Math.floorMod(mix(n), 10L) != 0;
+  }
+
+  LocalDateTime createdAt(long n) {
+    return EPOCH.plusSeconds(n);
+  }
+
+  // SplitMix64 finalizer: cheap, well-spread attributes without a stateful Random.
+  private long mix(long n) {
+    long z = n + seed * 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,25 @@
+package org.services.usermanagementservice.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Defers cache side effects of a write until its transaction commits; none on rollback. */
+final class AfterCommit {
+
+  private AfterCommit() {}
+
+  /** Runs the action after the current transaction commits, or right away outside one. */
+  static void run(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
@@ -0,0 +1,85 @@
+package org.services.usermanagementservice.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over strings. Sized for an expected number of insertions and target
+ * false-positive rate; the k probe positions come from double hashing two 64-bit hashes of the
+ * string. Only additions are supported, so removed keys linger as false positives until the
+ * filter is rebuilt.
+ */
+final class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+  private final AtomicLong bitsSet = new AtomicLong();
+
+  BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1, expectedInsertions);
+    double ln2 = Math.log(2);
+    long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+    this.words = new AtomicLongArray(Math.toIntExact(Math.max(1, (bits + 63) / 64)));
+    this.bitCount = words.length() * 64L;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * ln2));
+  }
+
+  void put(String key) {
+    long h1 = hash(key);
+    long h2 = mix(h1 ^ 0x9E37_79B9_7F4A_7C15L);
+    for (int i = 0; i < hashCount; i++) {
+      long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+      long mask = 1L << bit;
+      int word = (int) (bit >>> 6);
+      long previous = words.getAndUpdate(word, value -> value | mask);
+      if ((previous & mask) == 0) {
+        bitsSet.incrementAndGet();
+      }
+    }
+  }
+
+  boolean mightContain(String key) {
+    long h1 = hash(key);
+    long h2 = mix(h1 ^ 0x9E37_79B9_7F4A_7C15L);
+    for (int i = 0; i < hashCount; i++) {
+      long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** False-positive rate at the current fill: (bits set / bits)^k. */
+  double expectedFalsePositiveRate() {
+    return Math.pow((double) bitsSet.get() / bitCount, hashCount);
+  }
+
+  long memoryBytes() {
+    return words.length() * 8L;
+  }
+
+  int hashCount() {
+    return hashCount;
+  }
+
+  // FNV-1a over the UTF-16 chars, finished with the MurmurHash3 mixer for avalanche.
+  private static long hash(String key) {
+    long h = 0xCBF2_9CE4_8422_2325L;
+    for (int i = 0; i < key.length(); i++) {
+      h ^= key.charAt(i);
+      h *= 0x0100_0000_01B3L;
+    }
+    return mix(h);
+  }
+
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xFF51_AFD7_ED55_8CCDL;
+    h ^= h >>> 33;
+    h *= 0xC4CE_B9FE_1A85_EC53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
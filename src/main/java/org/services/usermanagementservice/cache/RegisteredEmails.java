@@ -0,0 +1,145 @@
+package org.services.usermanagementservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.services.usermanagementservice.repository.UserJdbcRepository;
+import org.services.usermanagementservice.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory negative lookup for registered (live) emails. A "no" from {@link #mightExist} is
+ * definite, so duplicate pre-checks can skip the database for new addresses; a "maybe" still goes
+ * to the database, and the unique index remains the final guard.
+ *
+ * <p>Built by streaming the email column at startup and again every rebuild interval; writes add
+ * their emails in between. Deleted or changed addresses cannot be removed from a Bloom filter and
+ * stay as false positives until the next rebuild, which also resizes the filter to the table.
+ * Until the first build completes every email is reported as "maybe".
+ */
+@Slf4j
+@Component
+public class RegisteredEmails {
+
+  private final UserRepository userRepository;
+  private final UserJdbcRepository userJdbcRepository;
+  private final double falsePositiveRate;
+  private final long minCapacity;
+
+  private volatile BloomFilter filter;
+  // Filter being rebuilt; writes go to both so none is lost in the swap.
+  private volatile BloomFilter building;
+
+  private final Counter absent;
+  private final Counter maybe;
+  private final AtomicLong falsePositives = new AtomicLong();
+
+  public RegisteredEmails(
+      UserRepository userRepository,
+      UserJdbcRepository userJdbcRepository,
+      MeterRegistry registry,
+      @Value("${app.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+      @Value("${app.email-filter.min-capacity:1000000}") long minCapacity) {
+    this.userRepository = userRepository;
+    this.userJdbcRepository = userJdbcRepository;
+    this.falsePositiveRate = falsePositiveRate;
+    this.minCapacity = minCapacity;
+
+    this.absent = checks(registry, "absent");
+    this.maybe = checks(registry, "maybe");
+    FunctionCounter.builder("users.email_filter.false_positives", falsePositives, AtomicLong::get)
+        .description("Emails the filter reported as maybe that the database did not have")
+        .register(registry);
+    Gauge.builder("users.email_filter.fpp.expected", this, RegisteredEmails::expectedFpp)
+        .description("False-positive rate predicted from the filter's fill")
+        .register(registry);
+    Gauge.builder("users.email_filter.fpp.observed", this, RegisteredEmails::observedFpp)
+        .description("False positives / (false positives + definite negatives) since startup")
+        .register(registry);
+    Gauge.builder("users.email_filter.memory", this, RegisteredEmails::memoryBytes)
+        .baseUnit("bytes")
+        .register(registry);
+  }
+
+  private static Counter checks(MeterRegistry registry, String result) {
+    return Counter.builder("users.email_filter.checks")
+        .tag("result", result)
+        .register(registry);
+  }
+
+  /** False only if the (normalized) email is definitely not registered. */
+  public boolean mightExist(String email) {
+    BloomFilter current = filter;
+    if (current == null) {
+      return true;
+    }
+    if (!current.mightContain(email)) {
+      absent.increment();
+      return false;
+    }
+    maybe.increment();
+    return true;
+  }
+
+  /** Call for every email written; a rolled-back write only costs a false positive. */
+  public void add(String email) {
+    // building before filter: rebuild() publishes filter before clearing building, so the new
+    // filter is always covered.
+    BloomFilter next = building;
+    if (next != null) next.put(email);
+    BloomFilter current = filter;
+    if (current != null) current.put(email);
+  }
+
+  /** Reports "maybe" answers the database then found absent, for the observed rate. */
+  public void recordFalsePositives(int count) {
+    if (filter != null) falsePositives.addAndGet(count);
+  }
+
+  @Scheduled(initialDelay = 0, fixedDelayString = "${app.email-filter.rebuild-interval:6h}")
+  public void rebuild() {
+    long started = System.nanoTime();
+    // Headroom for growth until the next rebuild.
+    long capacity = Math.max(minCapacity, 2 * userRepository.estimateCount());
+    BloomFilter next = new BloomFilter(capacity, falsePositiveRate);
+    building = next;
+    try {
+      long count = userJdbcRepository.forEachLiveEmail(next::put);
+      filter = next;
+      log.info(
+          "Email filter built: {} emails, capacity {}, {} KiB, {} hashes, in {} ms",
+          count,
+          capacity,
+          next.memoryBytes() / 1024,
+          next.hashCount(),
+          (System.nanoTime() - started) / 1_000_000);
+    } catch (RuntimeException ex) {
+      // Keep serving the previous filter (or "maybe" for everything) and retry next interval.
+      log.warn("Email filter rebuild failed: {}", ex.getMessage());
+    } finally {
+      building = null;
+    }
+  }
+
+  private double expectedFpp() {
+    BloomFilter current = filter;
+    return current == null ? 1.0 : current.expectedFalsePositiveRate();
+  }
+
+  private double observedFpp() {
+    double fp = falsePositives.get();
+    double negatives = absent.count();
+    return fp + negatives == 0 ? 0 : fp / (fp + negatives);
+  }
+
+  private double memoryBytes() {
+    BloomFilter current = filter;
+    BloomFilter next = building;
+    return (current == null ? 0 : current.memoryBytes()) + (next == null ? 0 : next.memoryBytes());
+  }
+}
@@ -0,0 +1,159 @@
+package org.services.usermanagementservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.services.usermanagementservice.dto.CacheStatsDto;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.entity.Emails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-process read-through cache for user profiles. Users are held once, keyed by id; the
+ * email index only maps a normalized email to that id, so an eviction or invalidation by id
+ * removes both views of the user.
+ *
+ * <p>Entries are immutable snapshots; callers get their own copy. A put never replaces a newer
+ * version, and a read-through load that started before an eviction of the same user is dropped
+ * (see {@link #loadTicket()}), so a slow read cannot re-cache the row an update just replaced.
+ */
+@Component
+public class UserCache {
+
+  private final Cache<UUID, CachedUser> byId;
+  private final Cache<String, UUID> idByEmail;
+  // Eviction sequence per recently evicted id, compared against load tickets.
+  private final Cache<UUID, Long> evictedAt;
+  private final AtomicLong evictions = new AtomicLong();
+
+  public UserCache(
+      @Value("${app.cache.users.max-size:10000}") long maxSize,
+      @Value("${app.cache.users.ttl:10m}") Duration ttl) {
+    this.byId =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    this.idByEmail =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    this.evictedAt = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+  }
+
+  public Optional<UserResponseDto> get(UUID id) {
+    return Optional.ofNullable(byId.getIfPresent(id)).map(CachedUser::toDto);
+  }
+
+  public Optional<UserResponseDto> getByEmail(String email) {
+    UUID id = idByEmail.getIfPresent(Emails.normalize(email));
+    if (id == null) {
+      return Optional.empty();
+    }
+    // The mapping can outlive the profile (separate eviction), and must agree with the stored email.
+    CachedUser user = byId.getIfPresent(id);
+    if (user == null || !Emails.normalize(user.email()).equals(Emails.normalize(email))) {
+      return Optional.empty();
+    }
+    return Optional.of(user.toDto());
+  }
+
+  /**
+   * After a write: the caller holds the current row, so only a newer cached version wins. Inside a
+   * transaction the entry is stored once it commits, so a rollback cannot leave a phantom user or
+   * email mapping behind.
+   */
+  public void put(UserResponseDto user) {
+    // Copied now: the caller may change its DTO before the commit.
+    UserResponseDto snapshot = CachedUser.of(user).toDto();
+    AfterCommit.run(() -> store(snapshot, Long.MAX_VALUE));
+  }
+
+  /** Taken before a read-through load; pass it to {@link #putLoaded}. */
+  public long loadTicket() {
+    return evictions.get();
+  }
+
+  /** After a read-through load: dropped if the user was evicted since the ticket was taken. */
+  public void putLoaded(UserResponseDto user, long ticket) {
+    store(user, ticket);
+  }
+
+  public void evict(UUID id) {
+    // Recorded before the removal, so a concurrent store either sees it or is removed after.
+    evictedAt.put(id, evictions.incrementAndGet());
+    CachedUser cached = byId.asMap().remove(id);
+    if (cached != null) {
+      idByEmail.invalidate(Emails.normalize(cached.email()));
+    }
+  }
+
+  private void store(UserResponseDto user, long ticket) {
+    CachedUser snapshot = CachedUser.of(user);
+    CachedUser stored =
+        byId.asMap()
+            .compute(
+                user.getId(),
+                (id, current) -> {
+                  Long evicted = evictedAt.getIfPresent(id);
+                  if (evicted != null && evicted > ticket) {
+                    return current;
+                  }
+                  return current == null || !current.isNewerThan(snapshot) ? snapshot : current;
+                });
+    if (stored == snapshot) {
+      idByEmail.put(Emails.normalize(user.getEmail()), user.getId());
+    }
+  }
+
+  public List<CacheStatsDto> stats() {
+    return List.of(toDto("users.byId", byId), toDto("users.idByEmail", idByEmail));
+  }
+
+  private static CacheStatsDto toDto(String name, Cache<?, ?> cache) {
+    CacheStats stats = cache.stats();
+    return new CacheStatsDto(
+        name,
+        cache.estimatedSize(),
+        stats.hitCount(),
+        stats.missCount(),
+        stats.hitRate(),
+        stats.evictionCount());
+  }
+
+  private record CachedUser(
+      UUID id,
+      String name,
+      String email,
+      String phone,
+      String role,
+      Boolean active,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt,
+      Long version) {
+
+    static CachedUser of(UserResponseDto user) {
+      return new CachedUser(
+          user.getId(),
+          user.getName(),
+          user.getEmail(),
+          user.getPhone(),
+          user.getRole(),
+          user.getActive(),
+          user.getCreatedAt(),
+          user.getUpdatedAt(),
+          user.getVersion());
+    }
+
+    boolean isNewerThan(CachedUser other) {
+      return version != null && other.version != null && version > other.version;
+    }
+
+    UserResponseDto toDto() {
+      return new UserResponseDto(
+          id, name, email, phone, role, active, createdAt, updatedAt, version);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package org.services.usermanagementservice.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Optional;
+import java.util.UUID;
+import org.services.usermanagementservice.entity.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the user caches of this and other instances coherent. Writes that go through Hibernate
+ * already update its second-level cache here and only need to reach the peers; JDBC and native
+ * writes bypass Hibernate and evict the id everywhere. Peers are told after the transaction
+ * commits, otherwise they could reload and cache the pre-commit row; for the same reason the local
+ * eviction is repeated after commit.
+ */
+@Component
+public class UserCacheInvalidator {
+
+  private final UserCache userCache;
+  private final EntityManagerFactory entityManagerFactory;
+  private final UserInvalidationBroadcaster broadcaster;
+
+  public UserCacheInvalidator(
+      UserCache userCache,
+      EntityManagerFactory entityManagerFactory,
+      Optional<UserInvalidationBroadcaster> broadcaster) {
+    this.userCache = userCache;
+    this.entityManagerFactory = entityManagerFactory;
+    this.broadcaster = broadcaster.orElse(null);
+    if (this.broadcaster != null) {
+      this.broadcaster.subscribe(this::evictLocal);
+    }
+  }
+
+  /**
+   * After a write that bypassed Hibernate: evicts only this id, here and on every other instance.
+   * Other users stay cached.
+   */
+  public void invalidate(UUID id) {
+    evictLocal(id);
+    AfterCommit.run(
+        () -> {
+          evictLocal(id);
+          publish(id);
+        });
+  }
+
+  /** After a write through Hibernate, which keeps this instance's second-level cache current. */
+  public void invalidatePeers(UUID id) {
+    AfterCommit.run(() -> publish(id));
+  }
+
+  private void publish(UUID id) {
+    if (broadcaster != null) {
+      broadcaster.publish(id);
+    }
+  }
+
+  private void evictLocal(UUID id) {
+    userCache.evict(id);
+    entityManagerFactory.getCache().evict(User.class, id);
+  }
+}
@@ -0,0 +1,19 @@
+package org.services.usermanagementservice.cache;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Tells the other service instances that a user changed, so they drop their cached copies
+ * (UserCache and the Hibernate second-level cache). Plug in an implementation over any bus the
+ * instances share (Redis pub/sub, Postgres LISTEN/NOTIFY, ...) by declaring it as a bean; without
+ * one, caches are only invalidated locally, which is correct for a single instance.
+ */
+public interface UserInvalidationBroadcaster {
+
+  /** Announces a committed change to every other instance; the publisher is not notified. */
+  void publish(UUID userId);
+
+  /** Registers the handler for announcements from other instances. */
+  void subscribe(Consumer<UUID> listener);
+}
@@ -0,0 +1,27 @@
+package org.services.usermanagementservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * With app.schema.migrate-on-startup=false instances only validate the applied migrations against
+ * db/migration (checksums, nothing pending) and never take migration locks, so startup cost does
+ * not depend on the size of the tables.
+ */
+@Configuration
+public class FlywayConfig {
+
+  @Bean
+  FlywayMigrationStrategy flywayMigrationStrategy(
+      @Value("${app.schema.migrate-on-startup:true}") boolean migrateOnStartup) {
+    return flyway -> {
+      if (migrateOnStartup) {
+        flyway.migrate();
+      } else {
+        flyway.validate();
+      }
+    };
+  }
+}
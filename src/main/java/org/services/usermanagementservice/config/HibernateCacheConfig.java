@@ -0,0 +1,44 @@
+package org.services.usermanagementservice.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.services.usermanagementservice.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JCache (Caffeine) backing for Hibernate's second-level cache. The region is bounded and
+ * expires, so entries written by other instances or by JDBC are dropped even if an invalidation
+ * is missed.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+  @Bean(destroyMethod = "close")
+  CacheManager hibernateCacheManager(
+      @Value("${app.cache.hibernate.max-size:10000}") long maxSize,
+      @Value("${app.cache.hibernate.ttl:10m}") Duration ttl) {
+    CacheManager cacheManager =
+        Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("hibernate"), getClass().getClassLoader());
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(OptionalLong.of(maxSize));
+    configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+    cacheManager.createCache(User.CACHE_REGION, configuration);
+    return cacheManager;
+  }
+
+  @Bean
+  HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(
+      CacheManager hibernateCacheManager) {
+    return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+  }
+}
@@ -0,0 +1,64 @@
+package org.services.usermanagementservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.services.usermanagementservice.outbox.ChangeEventSink;
+import org.services.usermanagementservice.outbox.FileChangeEventSink;
+import org.services.usermanagementservice.outbox.InMemoryChangeEventSink;
+import org.services.usermanagementservice.outbox.UserOutboxRelay;
+import org.services.usermanagementservice.outbox.WebhookChangeEventSink;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Selects the outbox sink with app.outbox.sink (none, memory, file or webhook). With "none" events
+ * are still recorded and served by GET /api/users/changes, but nothing is pushed.
+ */
+@Configuration
+public class OutboxConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "memory")
+  ChangeEventSink inMemoryChangeEventSink(
+      @Value("${app.outbox.memory.capacity:10000}") int capacity) {
+    return new InMemoryChangeEventSink(capacity);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file")
+  ChangeEventSink fileChangeEventSink(
+      @Value("${app.outbox.file.path}") Path path, ObjectMapper objectMapper) {
+    return new FileChangeEventSink(path, objectMapper);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "webhook")
+  ChangeEventSink webhookChangeEventSink(
+      RestClient.Builder restClientBuilder,
+      @Value("${app.outbox.webhook.url}") String url,
+      @Value("${app.outbox.webhook.timeout:5s}") Duration timeout) {
+    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+    requestFactory.setConnectTimeout(timeout);
+    requestFactory.setReadTimeout(timeout);
+    RestClient restClient = restClientBuilder.requestFactory(requestFactory).build();
+    return new WebhookChangeEventSink(restClient, url);
+  }
+
+  @Bean
+  @ConditionalOnExpression("'${app.outbox.sink:none}' != 'none'")
+  UserOutboxRelay userOutboxRelay(
+      UserOutboxRepository outboxRepository,
+      ChangeEventSink sink,
+      TransactionTemplate transactionTemplate,
+      @Value("${app.outbox.batch-size:500}") int batchSize) {
+    return new UserOutboxRelay(outboxRepository, sink, transactionTemplate, batchSize);
+  }
+}
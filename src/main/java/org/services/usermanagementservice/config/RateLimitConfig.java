@@ -0,0 +1,71 @@
+package org.services.usermanagementservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.services.usermanagementservice.ratelimit.ClientRateLimiter;
+import org.services.usermanagementservice.ratelimit.CostClass;
+import org.services.usermanagementservice.ratelimit.LoadShedder;
+import org.services.usermanagementservice.ratelimit.RateLimitInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-client rate limiting and load shedding for /api/users (app.ratelimit, app.shedding). The
+ * admin and actuator endpoints are left out so the service can still be inspected when shedding.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.ratelimit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+  private final ObjectProvider<RateLimitInterceptor> rateLimitInterceptor;
+
+  public RateLimitConfig(ObjectProvider<RateLimitInterceptor> rateLimitInterceptor) {
+    this.rateLimitInterceptor = rateLimitInterceptor;
+  }
+
+  @Bean
+  ClientRateLimiter clientRateLimiter(
+      @Value("${app.ratelimit.standard.rate:100}") double standardRate,
+      @Value("${app.ratelimit.standard.burst:200}") int standardBurst,
+      @Value("${app.ratelimit.expensive.rate:1}") double expensiveRate,
+      @Value("${app.ratelimit.expensive.burst:3}") int expensiveBurst,
+      @Value("${app.ratelimit.max-clients:100000}") long maxClients) {
+    return new ClientRateLimiter(
+        Map.of(
+            CostClass.STANDARD, new ClientRateLimiter.Limit(standardRate, standardBurst),
+            CostClass.EXPENSIVE, new ClientRateLimiter.Limit(expensiveRate, expensiveBurst)),
+        maxClients,
+        Duration.ofMinutes(10));
+  }
+
+  @Bean
+  LoadShedder loadShedder(
+      MeterRegistry registry,
+      @Value("${app.shedding.pool-wait-p99:200ms}") Duration poolWaitThreshold,
+      @Value("${app.shedding.latency-p99:1s}") Duration latencyThreshold,
+      @Value("${app.shedding.window:10s}") Duration window) {
+    return new LoadShedder(registry, poolWaitThreshold, latencyThreshold, window);
+  }
+
+  @Bean
+  RateLimitInterceptor rateLimitInterceptor(
+      ClientRateLimiter clientRateLimiter,
+      LoadShedder loadShedder,
+      MeterRegistry registry,
+      @Value("${app.ratelimit.expensive-page-size:200}") int expensivePageSize,
+      @Value("${app.shedding.retry-after:2s}") Duration retryAfter) {
+    return new RateLimitInterceptor(
+        clientRateLimiter, loadShedder, registry, expensivePageSize, retryAfter);
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(rateLimitInterceptor.getObject()).addPathPatterns("/api/users/**");
+  }
+}
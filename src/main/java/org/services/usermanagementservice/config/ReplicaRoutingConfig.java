@@ -0,0 +1,109 @@
+package org.services.usermanagementservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.services.usermanagementservice.datasource.ConnectionGates;
+import org.services.usermanagementservice.datasource.ReadReplicas;
+import org.services.usermanagementservice.datasource.ReadWriteDataSource;
+import org.services.usermanagementservice.datasource.ReadYourWritesFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Active when app.datasource.replicas lists at least one JDBC URL. Replaces Boot's pooled
+ * DataSource with a {@link ReadWriteDataSource}: @Transactional(readOnly = true) work goes to the
+ * replicas, everything else (including Flyway and non-transactional JDBC) to the primary. Every
+ * pool is configured from spring.datasource and spring.datasource.hikari and, in virtual-thread
+ * mode, gets its own connection gate.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replicas:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+  @Bean
+  ReadReplicas readReplicas(
+      DataSourceProperties properties,
+      Environment environment,
+      ObjectProvider<ConnectionGates> gates,
+      @Value("${app.datasource.replicas}") List<String> urls,
+      @Value("${app.datasource.replica-connection-timeout:1s}") Duration connectionTimeout) {
+    ConnectionGates connectionGates = gates.getIfAvailable();
+    List<ReadReplicas.Replica> replicas = new ArrayList<>();
+    for (String url : urls) {
+      HikariDataSource pool = pool(properties, environment, url.trim());
+      pool.setPoolName("replica-" + (replicas.size() + 1));
+      // Short, so a dead replica costs a read this long before it is taken out of rotation. The
+      // gate in front of the pool waits no longer than the pool would.
+      pool.setConnectionTimeout(connectionTimeout.toMillis());
+      DataSource source =
+          connectionGates == null ? pool : connectionGates.gate(pool, connectionTimeout);
+      replicas.add(new ReadReplicas.Replica(pool.getPoolName(), source));
+    }
+    return new ReadReplicas(replicas);
+  }
+
+  // The pools stay internal to the routing data source, which is not a Hikari pool and so is
+  // left ungated by VirtualThreadConfig; each pool is gated here instead.
+  @Bean
+  ReadWriteDataSource dataSource(
+      DataSourceProperties properties,
+      Environment environment,
+      ObjectProvider<ConnectionGates> gates,
+      ReadReplicas readReplicas) {
+    HikariDataSource primary = pool(properties, environment, properties.determineUrl());
+    primary.setPoolName("primary");
+    return new ReadWriteDataSource(gated(primary, gates), readReplicas);
+  }
+
+  @Bean
+  ReadYourWritesFilter readYourWritesFilter(
+      @Value("${app.datasource.read-your-writes:1s}") Duration window) {
+    return new ReadYourWritesFilter(window);
+  }
+
+  @Bean
+  MeterBinder readReplicaMetrics(ReadReplicas replicas) {
+    return registry -> {
+      Gauge.builder("db.replicas.healthy", replicas, ReadReplicas::getHealthyCount)
+          .description("Read replicas currently in rotation")
+          .register(registry);
+      FunctionCounter.builder("db.reads.routed", replicas, ReadReplicas::getReplicaReads)
+          .tag("target", "replica")
+          .description("Read-only transactions by the data source that served them")
+          .register(registry);
+      FunctionCounter.builder("db.reads.routed", replicas, ReadReplicas::getPinnedReads)
+          .tag("target", "primary_pinned")
+          .register(registry);
+      FunctionCounter.builder("db.reads.routed", replicas, ReadReplicas::getFallbackReads)
+          .tag("target", "primary_fallback")
+          .register(registry);
+    };
+  }
+
+  // Behind its own connection gate in virtual-thread mode, the pool itself otherwise.
+  private static DataSource gated(HikariDataSource pool, ObjectProvider<ConnectionGates> gates) {
+    ConnectionGates connectionGates = gates.getIfAvailable();
+    return connectionGates == null ? pool : connectionGates.gate(pool);
+  }
+
+  private static HikariDataSource pool(
+      DataSourceProperties properties, Environment environment, String url) {
+    HikariDataSource pool =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).url(url).build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+    return pool;
+  }
+}
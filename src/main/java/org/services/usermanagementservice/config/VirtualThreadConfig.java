@@ -0,0 +1,79 @@
+package org.services.usermanagementservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.services.usermanagementservice.datasource.ConnectionGates;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Active with spring.threads.virtual.enabled=true, in which case Boot already runs Tomcat
+ * requests and the application task executor (@Async, MVC async) on virtual threads. This adds
+ * the pieces Boot does not: a connection gate in front of each pool, sized to that pool, and a
+ * pinning monitor.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  @Bean
+  static ConnectionGates connectionGates(@Value("${app.jdbc.gate.timeout:30s}") Duration timeout) {
+    return new ConnectionGates(timeout);
+  }
+
+  // Static so the post-processor is registered without instantiating this configuration early.
+  // Only Hikari pools are gated: a routing data source (ReplicaRoutingConfig) gates the pools it
+  // builds itself, each with its own permits.
+  @Bean
+  static BeanPostProcessor gatedDataSourcePostProcessor(ObjectProvider<ConnectionGates> gates) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource pool) {
+          return gates.getObject().gate(pool);
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+      @Value("${app.threads.pinning-threshold:20ms}") Duration threshold) {
+    return new VirtualThreadPinningMonitor(threshold);
+  }
+
+  @Bean
+  MeterBinder virtualThreadMetrics(ConnectionGates gates, VirtualThreadPinningMonitor monitor) {
+    return registry -> {
+      Timer wait =
+          Timer.builder("jdbc.gate.wait")
+              .description("Time spent waiting for a database connection permit")
+              .register(registry);
+      gates.onWait(nanos -> wait.record(nanos, TimeUnit.NANOSECONDS));
+      Gauge.builder("jdbc.gate.waiting", gates, ConnectionGates::getWaiting)
+          .description("Threads parked waiting for a database connection permit")
+          .register(registry);
+      Gauge.builder("jdbc.gate.available", gates, ConnectionGates::getAvailable)
+          .description("Free database connection permits")
+          .register(registry);
+      FunctionCounter.builder("jdbc.gate.timeouts", gates, ConnectionGates::getTimeouts)
+          .description("Permit requests that timed out")
+          .register(registry);
+      FunctionCounter.builder(
+              "jvm.threads.virtual.pinned", monitor, VirtualThreadPinningMonitor::getPinnedEvents)
+          .description("Virtual threads pinned to their carrier above the threshold")
+          .register(registry);
+    };
+  }
+}
@@ -0,0 +1,76 @@
+package org.services.usermanagementservice.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Streams the JFR jdk.VirtualThreadPinned event in-process. A pinned virtual thread holds its
+ * carrier while it blocks (typically inside a synchronized block), which quietly caps throughput
+ * at the carrier count; each occurrence above the threshold is logged with the offending frames.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int LOGGED_FRAMES = 8;
+
+  private final Duration threshold;
+  private final LongAdder pinnedEvents = new LongAdder();
+  private RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(Duration threshold) {
+    this.threshold = threshold;
+  }
+
+  @Override
+  public synchronized void start() {
+    stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, this::onPinned);
+    stream.startAsync();
+    log.info("Virtual thread pinning monitor started, threshold={}ms", threshold.toMillis());
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (stream != null) {
+      stream.close();
+      stream = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return stream != null;
+  }
+
+  public long getPinnedEvents() {
+    return pinnedEvents.sum();
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinnedEvents.increment();
+    String frames =
+        event.getStackTrace() == null
+            ? "<no stack trace>"
+            : event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+    log.warn("Virtual thread pinned for {}ms{}", event.getDuration().toMillis(), frames);
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName()
+        + "."
+        + frame.getMethod().getName()
+        + ":"
+        + frame.getLineNumber();
+  }
+}
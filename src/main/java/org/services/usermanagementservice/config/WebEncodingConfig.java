@@ -0,0 +1,44 @@
+package org.services.usermanagementservice.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.services.usermanagementservice.controller.FieldSelectionAdvice;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Response encodings beyond JSON. Clients sending Accept: application/cbor or
+ * application/x-jackson-smile get the same payloads in a binary form; JSON stays the default.
+ * The binary mappers come from Boot's builder so they share spring.jackson.* settings, the
+ * JavaTimeModule and the ?fields= filter with the JSON one.
+ */
+@Configuration
+public class WebEncodingConfig {
+
+  @Bean
+  Jackson2ObjectMapperBuilderCustomizer userFieldSelection() {
+    return builder ->
+        builder
+            .mixIn(UserResponseDto.class, FieldSelectionAdvice.UserFieldsMixIn.class)
+            .filters(FieldSelectionAdvice.ALL_FIELDS);
+  }
+
+  @Bean
+  MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(
+        builder.factory(new CBORFactory()).build());
+  }
+
+  @Bean
+  MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(
+        builder.factory(new SmileFactory()).build());
+  }
+}
@@ -0,0 +1,58 @@
+package org.services.usermanagementservice.controller;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.services.usermanagementservice.cache.UserCache;
+import org.services.usermanagementservice.config.VirtualThreadPinningMonitor;
+import org.services.usermanagementservice.datasource.ConnectionGates;
+import org.services.usermanagementservice.dto.CacheStatsDto;
+import org.services.usermanagementservice.dto.CommonResponse;
+import org.services.usermanagementservice.dto.ThreadingStatsDto;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+  private final UserCache userCache;
+
+  // Only present in virtual-thread mode.
+  private final ObjectProvider<ConnectionGates> connectionGates;
+  private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+
+  /* ------------------------------------------------------
+     USER CACHE STATISTICS
+  ------------------------------------------------------ */
+  @GetMapping("/cache/users")
+  public ResponseEntity<CommonResponse<List<CacheStatsDto>>> getUserCacheStats() {
+    return ResponseEntity.ok(
+        CommonResponse.success("Cache statistics retrieved successfully", userCache.stats()));
+  }
+
+  /* ------------------------------------------------------
+     THREADING / JDBC GATE STATISTICS
+  ------------------------------------------------------ */
+  @GetMapping("/threads")
+  public ResponseEntity<CommonResponse<ThreadingStatsDto>> getThreadingStats() {
+    ThreadingStatsDto stats = new ThreadingStatsDto();
+    // Totals over the per-pool gates.
+    ConnectionGates gates = connectionGates.getIfAvailable();
+    stats.setVirtualThreads(gates != null);
+    if (gates != null) {
+      stats.setGatePermits(gates.getPermits());
+      stats.setGateAvailable(gates.getAvailable());
+      stats.setGateWaiting(gates.getWaiting());
+      stats.setGateAcquired(gates.getAcquired());
+      stats.setGateTimeouts(gates.getTimeouts());
+    }
+    VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+    if (monitor != null) {
+      stats.setPinnedEvents(monitor.getPinnedEvents());
+    }
+    return ResponseEntity.ok(
+        CommonResponse.success("Threading statistics retrieved successfully", stats));
+  }
+}
@@ -0,0 +1,76 @@
+package org.services.usermanagementservice.controller;
+
+import java.nio.charset.StandardCharsets;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Strong entity tags: single users are tagged with their optimistic-locking version, pages with a
+ * digest of the page coordinates (including sort), the total and every returned row's id and
+ * version. Any change to a row on the page, or any insert or delete that shifts it, changes the
+ * tag.
+ */
+final class ETags {
+
+  private ETags() {}
+
+  static String forVersion(Long version) {
+    return "\"" + version + "\"";
+  }
+
+  static String forPage(Page<UserResponseDto> page) {
+    StringBuilder raw =
+        new StringBuilder()
+            .append(page.getNumber())
+            .append(':')
+            .append(page.getSize())
+            .append(':')
+            .append(page.getSort())
+            .append(':')
+            .append(page.getTotalElements());
+    for (UserResponseDto user : page.getContent()) {
+      raw.append(':').append(user.getId()).append('@').append(user.getVersion());
+    }
+    byte[] bytes = raw.toString().getBytes(StandardCharsets.UTF_8);
+    return "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+  }
+
+  /** If-None-Match uses weak comparison, so W/ prefixes are ignored; "*" matches anything. */
+  static boolean matchesIfNoneMatch(String header, String eTag) {
+    if (header == null) {
+      return false;
+    }
+    for (String candidate : header.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("*") || tag.equals(eTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Parses an If-Match header; returns null when absent or "*" (match any version). */
+  static Long parseIfMatch(String header) {
+    if (header == null || header.isBlank() || header.trim().equals("*")) {
+      return null;
+    }
+    String tag = header.trim();
+    if (tag.startsWith("W/")) {
+      // Weak tags never satisfy If-Match (RFC 9110 13.1.1).
+      throw new InvalidRequestException("If-Match requires a strong entity tag");
+    }
+    if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+      tag = tag.substring(1, tag.length() - 1);
+    }
+    try {
+      return Long.parseLong(tag);
+    } catch (NumberFormatException ex) {
+      throw new InvalidRequestException("Invalid If-Match header");
+    }
+  }
+}
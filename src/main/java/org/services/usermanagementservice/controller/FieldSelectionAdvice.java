@@ -0,0 +1,103 @@
+package org.services.usermanagementservice.controller;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.services.usermanagementservice.dto.CommonResponse;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * ?fields=name,email on any endpoint trims every {@link UserResponseDto} in the response to those
+ * properties (id is always kept). Applied as a Jackson property filter, so dropped properties are
+ * never read or written rather than being removed after serialization. Works for every Jackson
+ * encoding (JSON, CBOR, Smile). Streamed bodies bypass this advice; their controllers apply
+ * {@link #filters(String)} to the writer themselves.
+ */
+@RestControllerAdvice
+public class FieldSelectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+  public static final String USER_FIELDS_FILTER = "userFields";
+
+  /** Filter set for mappers that carry the mix-in but serve no ?fields= request. */
+  public static final FilterProvider ALL_FIELDS =
+      new SimpleFilterProvider()
+          .addFilter(USER_FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll());
+
+  private static final String PARAM = "fields";
+
+  private static final Set<String> USER_FIELDS =
+      Arrays.stream(UserResponseDto.class.getDeclaredFields())
+          .filter(field -> !Modifier.isStatic(field.getModifiers()))
+          .map(Field::getName)
+          .collect(Collectors.toCollection(TreeSet::new));
+
+  /** Registered on UserResponseDto by WebEncodingConfig, leaving the DTO itself plain. */
+  @JsonFilter(USER_FIELDS_FILTER)
+  public interface UserFieldsMixIn {}
+
+  @Override
+  protected void beforeBodyWriteInternal(
+      MappingJacksonValue bodyContainer,
+      MediaType contentType,
+      MethodParameter returnType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+
+    // Error bodies go out whole; a bad ?fields= value must not break its own 400 response.
+    if (bodyContainer.getValue() instanceof CommonResponse<?> body && !body.isSuccess()) {
+      return;
+    }
+    if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+      return;
+    }
+    String fields = servletRequest.getServletRequest().getParameter(PARAM);
+    if (fields == null || fields.isBlank()) {
+      return;
+    }
+
+    bodyContainer.setFilters(filters(fields));
+  }
+
+  /** Filter set for a ?fields= value; every property when it is absent or blank. */
+  static FilterProvider filters(String fields) {
+    if (fields == null || fields.isBlank()) {
+      return ALL_FIELDS;
+    }
+    return new SimpleFilterProvider()
+        .addFilter(USER_FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(parse(fields)));
+  }
+
+  static Set<String> parse(String fields) {
+    Set<String> selected = new LinkedHashSet<>();
+    selected.add("id");
+    for (String field : fields.split(",")) {
+      String name = field.trim();
+      if (name.isEmpty()) {
+        continue;
+      }
+      if (!USER_FIELDS.contains(name)) {
+        throw new InvalidRequestException(
+            "Unknown field '" + name + "'; expected any of " + USER_FIELDS);
+      }
+      selected.add(name);
+    }
+    return selected;
+  }
+}
@@ -1,19 +1,41 @@
 package org.services.usermanagementservice.controller;
 
+import static org.services.usermanagementservice.logging.LogMarkers.SAMPLED;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
 import jakarta.validation.Valid;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.services.usermanagementservice.dto.BulkOperationResponse;
+import org.services.usermanagementservice.dto.BulkUpdateItemDto;
 import org.services.usermanagementservice.dto.CommonResponse;
+import org.services.usermanagementservice.dto.CursorPageResponse;
+import org.services.usermanagementservice.dto.UserChangeEventDto;
+import org.services.usermanagementservice.dto.UserPatchDto;
 import org.services.usermanagementservice.dto.UserRequestDto;
 import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.dto.UserSearchCriteria;
+import org.services.usermanagementservice.dto.UserSyncItemDto;
+import org.services.usermanagementservice.pagination.PagingPolicy;
+import org.services.usermanagementservice.pagination.UserSortField;
+import org.services.usermanagementservice.service.UserBulkService;
+import org.services.usermanagementservice.service.UserChangeService;
+import org.services.usermanagementservice.service.UserExportService;
+import org.services.usermanagementservice.service.UserSearchService;
 import org.services.usermanagementservice.service.UserService;
+import org.services.usermanagementservice.service.UserSyncService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -22,6 +44,12 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
   private final UserService userService;
+  private final UserExportService userExportService;
+  private final UserBulkService userBulkService;
+  private final UserSearchService userSearchService;
+  private final UserChangeService userChangeService;
+  private final UserSyncService userSyncService;
+  private final PagingPolicy pagingPolicy;
 
   /* ------------------------------------------------------
      CREATE USER
@@ -30,11 +58,11 @@ public class UserController {
   public ResponseEntity<CommonResponse<UserResponseDto>> createUser(
       @Valid @RequestBody UserRequestDto request) {
 
-    log.info("➡️ [CREATE USER] Request: {}", request);
+    log.debug("[CREATE USER] Request: {}", request);
 
     UserResponseDto response = userService.createUser(request);
 
-    log.info("✅ [CREATE USER] User created: {}", response.getId());
+    log.info(SAMPLED, "[CREATE USER] User created: {}", response.getId());
 
     return ResponseEntity.status(HttpStatus.CREATED)
         .body(
@@ -50,21 +78,34 @@ public class UserController {
      GET USER BY ID
   ------------------------------------------------------ */
   @GetMapping("/{id}")
-  public ResponseEntity<CommonResponse<UserResponseDto>> getUser(@PathVariable UUID id) {
+  public ResponseEntity<CommonResponse<UserResponseDto>> getUser(
+      @PathVariable UUID id,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+    log.info(SAMPLED, "[GET USER] ID: {}", id);
 
-    log.info("➡️ [GET USER] ID: {}", id);
+    // Revalidation only needs the version: no entity load, no serialization.
+    if (ifNoneMatch != null) {
+      String current = ETags.forVersion(userService.getUserVersion(id));
+      if (ETags.matchesIfNoneMatch(ifNoneMatch, current)) {
+        log.info(SAMPLED, "[GET USER] Not modified: {}", id);
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+      }
+    }
 
     UserResponseDto response = userService.getUserById(id);
 
-    log.info("✅ [GET USER] Found user: {}", response.getId());
+    log.info(SAMPLED, "[GET USER] Found user: {}", response.getId());
 
-    return ResponseEntity.ok(
-        CommonResponse.<UserResponseDto>builder()
-            .success(true)
-            .message("User retrieved successfully")
-            .data(response)
-            .timestamp(LocalDateTime.now())
-            .build());
+    return ResponseEntity.ok()
+        .eTag(ETags.forVersion(response.getVersion()))
+        .body(
+            CommonResponse.<UserResponseDto>builder()
+                .success(true)
+                .message("User retrieved successfully")
+                .data(response)
+                .timestamp(LocalDateTime.now())
+                .build());
   }
 
   /* ------------------------------------------------------
@@ -73,11 +114,11 @@ public class UserController {
   @GetMapping("/all")
   public ResponseEntity<CommonResponse<List<UserResponseDto>>> getAllUsers() {
 
-    log.info("➡️ [GET ALL USERS]");
+    log.info(SAMPLED, "[GET ALL USERS]");
 
     List<UserResponseDto> users = userService.getAllUsers();
 
-    log.info("✅ [GET ALL USERS] Count={}", users.size());
+    log.info(SAMPLED, "[GET ALL USERS] Count={}", users.size());
 
     return ResponseEntity.ok(
         CommonResponse.<List<UserResponseDto>>builder()
@@ -88,18 +129,157 @@ public class UserController {
             .build());
   }
 
+  /* ------------------------------------------------------
+     EXPORT ALL USERS (STREAMING)
+  ------------------------------------------------------ */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportUsers(
+      @RequestParam(defaultValue = "ndjson") String format,
+      @RequestParam(required = false) String fields) {
+
+    UserExportService.Format exportFormat = UserExportService.Format.fromParameter(format);
+    // Parsed before streaming starts, so an unknown field is still a 400 and not a cut-off body.
+    FilterProvider fieldFilters = FieldSelectionAdvice.filters(fields);
+
+    log.info("[EXPORT USERS] format={}, fields={}", exportFormat, fields);
+
+    StreamingResponseBody body = out -> userExportService.export(exportFormat, fieldFilters, out);
+
+    return ResponseEntity.ok().contentType(exportFormat.getMediaType()).body(body);
+  }
+
   /* ------------------------------------------------------
      PAGINATION
   ------------------------------------------------------ */
   @GetMapping
   public ResponseEntity<CommonResponse<Page<UserResponseDto>>> getUsersPage(
-      @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(defaultValue = "createdAt") String sort,
+      @RequestParam(defaultValue = "asc") String direction,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+    log.info(
+        SAMPLED, "[GET USERS PAGED] page={}, size={}, sort={} {}", page, size, sort, direction);
+
+    // Oversized first pages are served by the keyset or streaming endpoints instead.
+    Optional<URI> redirect = pagingPolicy.oversizedPageRedirect(page, size, sort, direction);
+    if (redirect.isPresent()) {
+      log.info("[GET USERS PAGED] size={} redirected to {}", size, redirect.get());
+      return ResponseEntity.status(HttpStatus.SEE_OTHER).location(redirect.get()).build();
+    }
+    Pageable pageable = pagingPolicy.pageRequest(page, size, sort, direction);
+
+    Page<UserResponseDto> result = userService.getUsersPage(pageable);
+
+    // The tag covers exactly what was returned, so a match saves serialization and transfer.
+    String eTag = ETags.forPage(result);
+    if (ETags.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+      log.info(SAMPLED, "[GET USERS PAGED] Not modified");
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+    log.info(SAMPLED, "[GET USERS PAGED] Returned {} users", result.getTotalElements());
+
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .body(CommonResponse.success("Users fetched successfully", result));
+  }
+
+  /* ------------------------------------------------------
+     CURSOR PAGINATION
+  ------------------------------------------------------ */
+  @GetMapping("/cursor")
+  public ResponseEntity<CommonResponse<CursorPageResponse<UserResponseDto>>> getUsersByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int limit,
+      @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+    log.info(SAMPLED, "[GET USERS CURSOR] limit={}, includeTotal={}", limit, includeTotal);
+
+    pagingPolicy.cursorLimit(limit);
+
+    CursorPageResponse<UserResponseDto> result =
+        userService.getUsersByCursor(cursor, limit, includeTotal);
+
+    log.info(SAMPLED, "[GET USERS CURSOR] Returned {} users", result.getItems().size());
+
+    return ResponseEntity.ok(CommonResponse.success("Users fetched successfully", result));
+  }
+
+  /* ------------------------------------------------------
+     CHANGE FEED (OUTBOX)
+  ------------------------------------------------------ */
+  @GetMapping("/changes")
+  public ResponseEntity<CommonResponse<CursorPageResponse<UserChangeEventDto>>> getUserChanges(
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "100") int limit) {
+
+    log.info(SAMPLED, "[GET USER CHANGES] limit={}", limit);
+
+    pagingPolicy.cursorLimit(limit);
+
+    CursorPageResponse<UserChangeEventDto> result = userChangeService.getChanges(since, limit);
+
+    log.info(SAMPLED, "[GET USER CHANGES] Returned {} changes", result.getItems().size());
 
-    log.info("➡️ [GET USERS PAGED] page={}, size={}", page, size);
+    return ResponseEntity.ok(CommonResponse.success("User changes fetched successfully", result));
+  }
+
+  /* ------------------------------------------------------
+     INCREMENTAL SYNC (UPDATED_AT WATERMARK + TOMBSTONES)
+  ------------------------------------------------------ */
+  @GetMapping("/sync")
+  public ResponseEntity<CommonResponse<CursorPageResponse<UserSyncItemDto>>> syncUsers(
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "100") int limit) {
+
+    log.info(SAMPLED, "[SYNC USERS] limit={}", limit);
 
-    Page<UserResponseDto> result = userService.getUsersPage(page, size);
+    pagingPolicy.cursorLimit(limit);
 
-    log.info("✅ [GET USERS PAGED] Returned {} users", result.getTotalElements());
+    CursorPageResponse<UserSyncItemDto> result = userSyncService.getChangesSince(since, limit);
+
+    log.info(SAMPLED, "[SYNC USERS] Returned {} changes", result.getItems().size());
+
+    return ResponseEntity.ok(CommonResponse.success("User changes fetched successfully", result));
+  }
+
+  /* ------------------------------------------------------
+     SEARCH (FILTERS + SORT + CURSOR)
+  ------------------------------------------------------ */
+  @GetMapping("/search")
+  public ResponseEntity<CommonResponse<CursorPageResponse<UserResponseDto>>> searchUsers(
+      @RequestParam(required = false) String role,
+      @RequestParam(required = false) Boolean active,
+      @RequestParam(required = false) String namePrefix,
+      @RequestParam(required = false) String emailDomain,
+      @RequestParam(defaultValue = "createdAt") String sort,
+      @RequestParam(defaultValue = "asc") String direction,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int limit) {
+
+    log.info(
+        SAMPLED,
+        "[SEARCH USERS] role={}, active={}, namePrefix={}, emailDomain={}, sort={} {}",
+        role,
+        active,
+        namePrefix,
+        emailDomain,
+        sort,
+        direction);
+
+    pagingPolicy.cursorLimit(limit);
+
+    CursorPageResponse<UserResponseDto> result =
+        userSearchService.searchUsers(
+            new UserSearchCriteria(role, active, namePrefix, emailDomain),
+            UserSortField.fromParameter(sort),
+            pagingPolicy.descending(direction),
+            cursor,
+            limit);
+
+    log.info(SAMPLED, "[SEARCH USERS] Returned {} users", result.getItems().size());
 
     return ResponseEntity.ok(CommonResponse.success("Users fetched successfully", result));
   }
@@ -111,11 +291,11 @@ public class UserController {
   public ResponseEntity<CommonResponse<UserResponseDto>> updateUser(
       @PathVariable UUID id, @Valid @RequestBody UserRequestDto request) {
 
-    log.info("➡️ [UPDATE USER] ID={}, Request={}", id, request);
+    log.debug("[UPDATE USER] ID={}, Request={}", id, request);
 
     UserResponseDto updated = userService.updateUser(id, request);
 
-    log.info("✅ [UPDATE USER] Updated user: {}", id);
+    log.info(SAMPLED, "[UPDATE USER] Updated user: {}", id);
 
     return ResponseEntity.ok(
         CommonResponse.<UserResponseDto>builder()
@@ -126,17 +306,37 @@ public class UserController {
             .build());
   }
 
+  /* ------------------------------------------------------
+     PATCH USER (PARTIAL UPDATE, OPTIONAL If-Match)
+  ------------------------------------------------------ */
+  @PatchMapping("/{id}")
+  public ResponseEntity<CommonResponse<UserResponseDto>> patchUser(
+      @PathVariable UUID id,
+      @Valid @RequestBody UserPatchDto request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+    log.info(SAMPLED, "[PATCH USER] ID={}, If-Match={}", id, ifMatch);
+
+    UserResponseDto patched = userService.patchUser(id, request, ETags.parseIfMatch(ifMatch));
+
+    log.info(SAMPLED, "[PATCH USER] Patched user: {}, version={}", id, patched.getVersion());
+
+    return ResponseEntity.ok()
+        .eTag(ETags.forVersion(patched.getVersion()))
+        .body(CommonResponse.success("User updated successfully", patched));
+  }
+
   /* ------------------------------------------------------
      DELETE USER
   ------------------------------------------------------ */
   @DeleteMapping("/{id}")
   public ResponseEntity<CommonResponse<Void>> deleteUser(@PathVariable UUID id) {
 
-    log.info("➡️ [DELETE USER] ID={}", id);
+    log.info(SAMPLED, "[DELETE USER] ID={}", id);
 
     userService.deleteUser(id);
 
-    log.info("🗑️ [DELETE USER] Deleted user: {}", id);
+    log.info(SAMPLED, "[DELETE USER] Deleted user: {}", id);
 
     return ResponseEntity.status(HttpStatus.NO_CONTENT)
         .body(
@@ -147,4 +347,51 @@ public class UserController {
                 .timestamp(LocalDateTime.now())
                 .build());
   }
+
+  /* ------------------------------------------------------
+     BULK CREATE / UPDATE / DELETE
+     Items are validated one by one, so no @Valid on the list:
+     a bad item is reported in the result instead of failing the call.
+  ------------------------------------------------------ */
+  @PostMapping("/bulk")
+  public ResponseEntity<CommonResponse<BulkOperationResponse>> bulkCreateUsers(
+      @RequestBody List<UserRequestDto> requests) {
+
+    log.info("[BULK CREATE USERS] Count={}", requests.size());
+
+    BulkOperationResponse result = userBulkService.createUsers(requests);
+
+    log.info(
+        "[BULK CREATE USERS] Created={}, Failed={}", result.getSucceeded(), result.getFailed());
+
+    return ResponseEntity.ok(CommonResponse.success("Bulk create processed", result));
+  }
+
+  @PutMapping("/bulk")
+  public ResponseEntity<CommonResponse<BulkOperationResponse>> bulkUpdateUsers(
+      @RequestBody List<BulkUpdateItemDto> requests) {
+
+    log.info("[BULK UPDATE USERS] Count={}", requests.size());
+
+    BulkOperationResponse result = userBulkService.updateUsers(requests);
+
+    log.info(
+        "[BULK UPDATE USERS] Updated={}, Failed={}", result.getSucceeded(), result.getFailed());
+
+    return ResponseEntity.ok(CommonResponse.success("Bulk update processed", result));
+  }
+
+  @DeleteMapping("/bulk")
+  public ResponseEntity<CommonResponse<BulkOperationResponse>> bulkDeleteUsers(
+      @RequestBody List<UUID> ids) {
+
+    log.info("[BULK DELETE USERS] Count={}", ids.size());
+
+    BulkOperationResponse result = userBulkService.deleteUsers(ids);
+
+    log.info(
+        "[BULK DELETE USERS] Deleted={}, Failed={}", result.getSucceeded(), result.getFailed());
+
+    return ResponseEntity.ok(CommonResponse.success("Bulk delete processed", result));
+  }
 }
@@ -0,0 +1,89 @@
+package org.services.usermanagementservice.datasource;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * Fair semaphore in front of the connection pool. With virtual threads the number of concurrent
+ * requests is effectively unbounded; parking on a semaphore is cheap, whereas piling onto the
+ * pool's own hand-off queue ends in connection timeouts once load exceeds the pool size.
+ */
+public class ConnectionGate {
+
+  private final int permits;
+  private final Duration timeout;
+  private final Semaphore semaphore;
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final LongAdder acquired = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private volatile LongConsumer waitRecorder = nanos -> {};
+
+  public ConnectionGate(int permits, Duration timeout) {
+    this.permits = permits;
+    this.timeout = timeout;
+    this.semaphore = new Semaphore(permits, true);
+  }
+
+  public void acquire() throws SQLException {
+    // No untimed tryAcquire() fast path: it barges past parked waiters even on a fair semaphore.
+    // The timed form queues behind them and still returns at once when a permit is free.
+    long started = System.nanoTime();
+    waiting.incrementAndGet();
+    try {
+      boolean granted = semaphore.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+      waitRecorder.accept(System.nanoTime() - started);
+      if (!granted) {
+        timeouts.increment();
+        throw new SQLTransientConnectionException(
+            "Timed out after " + timeout.toMillis() + "ms waiting for a database connection");
+      }
+      acquired.increment();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException(
+          "Interrupted while waiting for a database connection", ex);
+    } finally {
+      waiting.decrementAndGet();
+    }
+  }
+
+  /** Receives the time each acquire spent waiting for a permit, in nanoseconds. */
+  public void onWait(LongConsumer recorder) {
+    this.waitRecorder = recorder;
+  }
+
+  public void release() {
+    semaphore.release();
+  }
+
+  public int getPermits() {
+    return permits;
+  }
+
+  public int getAvailable() {
+    return semaphore.availablePermits();
+  }
+
+  /** Whether any thread is parked waiting for a permit. */
+  boolean hasQueuedThreads() {
+    return semaphore.hasQueuedThreads();
+  }
+
+  public int getWaiting() {
+    return waiting.get();
+  }
+
+  public long getAcquired() {
+    return acquired.sum();
+  }
+
+  public long getTimeouts() {
+    return timeouts.sum();
+  }
+}
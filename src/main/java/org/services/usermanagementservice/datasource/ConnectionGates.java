@@ -0,0 +1,71 @@
+package org.services.usermanagementservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * One {@link ConnectionGate} per Hikari pool, each with as many permits as its pool has
+ * connections. Gating the leaf pools rather than a routing data source means a saturated replica
+ * cannot hold permits the primary needs, and no pool is admitted past its own size. The getters
+ * sum over all gates.
+ */
+public class ConnectionGates {
+
+  private final Duration timeout;
+  private final List<ConnectionGate> gates = new CopyOnWriteArrayList<>();
+  private volatile LongConsumer waitRecorder = nanos -> {};
+
+  public ConnectionGates(Duration timeout) {
+    this.timeout = timeout;
+  }
+
+  /** Puts the pool behind a new gate sized to its maximum pool size. */
+  public GatedDataSource gate(HikariDataSource pool) {
+    return gate(pool, timeout);
+  }
+
+  /** As {@link #gate(HikariDataSource)}, with its own wait timeout instead of the shared one. */
+  public GatedDataSource gate(HikariDataSource pool, Duration timeout) {
+    ConnectionGate gate = new ConnectionGate(pool.getMaximumPoolSize(), timeout);
+    gate.onWait(nanos -> waitRecorder.accept(nanos));
+    gates.add(gate);
+    return new GatedDataSource(pool, gate);
+  }
+
+  /** Receives the time each acquire, on any gate, spent waiting for a permit, in nanoseconds. */
+  public void onWait(LongConsumer recorder) {
+    this.waitRecorder = recorder;
+  }
+
+  public int getGateCount() {
+    return gates.size();
+  }
+
+  public int getPermits() {
+    return (int) sum(ConnectionGate::getPermits);
+  }
+
+  public int getAvailable() {
+    return (int) sum(ConnectionGate::getAvailable);
+  }
+
+  public int getWaiting() {
+    return (int) sum(ConnectionGate::getWaiting);
+  }
+
+  public long getAcquired() {
+    return sum(ConnectionGate::getAcquired);
+  }
+
+  public long getTimeouts() {
+    return sum(ConnectionGate::getTimeouts);
+  }
+
+  private long sum(ToLongFunction<ConnectionGate> metric) {
+    return gates.stream().mapToLong(metric).sum();
+  }
+}
@@ -0,0 +1,80 @@
+package org.services.usermanagementservice.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Takes a {@link ConnectionGate} permit before borrowing a connection and returns it when the
+ * connection is closed. Extends DelegatingDataSource so Boot still finds the underlying pool for
+ * health checks and pool metrics.
+ */
+public class GatedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+  private final ConnectionGate gate;
+
+  public GatedDataSource(DataSource target, ConnectionGate gate) {
+    super(target);
+    this.gate = gate;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    gate.acquire();
+    try {
+      return gated(obtainTargetDataSource().getConnection());
+    } catch (SQLException | RuntimeException ex) {
+      gate.release();
+      throw ex;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    gate.acquire();
+    try {
+      return gated(obtainTargetDataSource().getConnection(username, password));
+    } catch (SQLException | RuntimeException ex) {
+      gate.release();
+      throw ex;
+    }
+  }
+
+  /** Replaces the pool as the bean, so the context's shutdown close has to reach the pool. */
+  @Override
+  public void close() throws Exception {
+    if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private Connection gated(Connection target) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              // close() may be called more than once; only the first call returns the permit.
+              if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                if (released.compareAndSet(false, true)) {
+                  try {
+                    target.close();
+                  } finally {
+                    gate.release();
+                  }
+                }
+                return null;
+              }
+              try {
+                return method.invoke(target, args);
+              } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+              }
+            });
+  }
+}
@@ -0,0 +1,24 @@
+package org.services.usermanagementservice.datasource;
+
+/**
+ * Marks the current thread's reads as needing the primary, set by {@link ReadYourWritesFilter}
+ * for clients that wrote recently enough that a replica may not have caught up yet.
+ */
+public final class PrimaryPin {
+
+  private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+  private PrimaryPin() {}
+
+  public static boolean isActive() {
+    return PINNED.get() != null;
+  }
+
+  static void set() {
+    PINNED.set(Boolean.TRUE);
+  }
+
+  static void clear() {
+    PINNED.remove();
+  }
+}
@@ -0,0 +1,152 @@
+package org.services.usermanagementservice.datasource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Round-robin over the healthy read replicas. A replica whose database cannot be reached (SQLState
+ * class 08) or fails validation is taken out of rotation until the periodic probe sees it answer
+ * again. A pool that is merely busy (acquire timeout) stays in rotation: that read moves on to the
+ * next replica. With no usable replica (or a pinned client) reads go to the primary.
+ */
+@Slf4j
+public class ReadReplicas implements Closeable {
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+  private static final String CONNECTION_EXCEPTION_CLASS = "08";
+
+  private final List<Replica> replicas;
+  private final AtomicInteger next = new AtomicInteger();
+  private final LongAdder replicaReads = new LongAdder();
+  private final LongAdder pinnedReads = new LongAdder();
+  private final LongAdder fallbackReads = new LongAdder();
+
+  public ReadReplicas(List<Replica> replicas) {
+    this.replicas = List.copyOf(replicas);
+  }
+
+  /** Connection for a read-only transaction, from a replica when one is usable. */
+  public Connection getConnection(DataSource primary) throws SQLException {
+    if (PrimaryPin.isActive()) {
+      pinnedReads.increment();
+      return primary.getConnection();
+    }
+
+    int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      Replica replica = replicas.get((start + i) % replicas.size());
+      if (!replica.healthy) {
+        continue;
+      }
+      try {
+        Connection connection = replica.dataSource.getConnection();
+        replicaReads.increment();
+        return connection;
+      } catch (SQLException ex) {
+        if (!isConnectionFailure(ex)) {
+          log.debug("Read replica {} busy, trying the next one: {}", replica.name, ex.getMessage());
+          continue;
+        }
+        if (replica.healthy) {
+          replica.healthy = false;
+          log.warn("Read replica {} taken out of rotation", replica.name, ex);
+        }
+      }
+    }
+
+    fallbackReads.increment();
+    return primary.getConnection();
+  }
+
+  @Scheduled(fixedDelayString = "${app.datasource.replica-health-interval:5s}")
+  public void checkHealth() {
+    for (Replica replica : replicas) {
+      boolean healthy;
+      try (Connection connection = replica.dataSource.getConnection()) {
+        healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+      } catch (SQLException ex) {
+        if (!isConnectionFailure(ex)) {
+          // A saturated pool says nothing about the replica; keep its current state.
+          continue;
+        }
+        healthy = false;
+      }
+      if (healthy != replica.healthy) {
+        replica.healthy = healthy;
+        if (healthy) {
+          log.info("Read replica {} back in rotation", replica.name);
+        } else {
+          log.warn("Read replica {} failed its health check", replica.name);
+        }
+      }
+    }
+  }
+
+  /**
+   * Whether the database could not be reached, as opposed to the pool timing out while every
+   * connection was in use. Hikari copies the SQLState of the last failed connection attempt onto
+   * its acquire timeout, so a timeout caused by an unreachable replica is still class 08.
+   */
+  static boolean isConnectionFailure(SQLException ex) {
+    for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SQLException sql
+          && sql.getSQLState() != null
+          && sql.getSQLState().startsWith(CONNECTION_EXCEPTION_CLASS)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public int getReplicaCount() {
+    return replicas.size();
+  }
+
+  public int getHealthyCount() {
+    return (int) replicas.stream().filter(replica -> replica.healthy).count();
+  }
+
+  public long getReplicaReads() {
+    return replicaReads.sum();
+  }
+
+  public long getPinnedReads() {
+    return pinnedReads.sum();
+  }
+
+  public long getFallbackReads() {
+    return fallbackReads.sum();
+  }
+
+  @Override
+  public void close() {
+    for (Replica replica : replicas) {
+      if (replica.dataSource instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception ex) {
+          log.warn("Failed to close read replica {}", replica.name, ex);
+        }
+      }
+    }
+  }
+
+  public static final class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+
+    public Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+  }
+}
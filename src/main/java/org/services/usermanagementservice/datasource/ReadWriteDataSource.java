@@ -0,0 +1,46 @@
+package org.services.usermanagementservice.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Sends read-only transactions to {@link ReadReplicas} and everything else to the primary.
+ *
+ * <p>The transaction manager borrows a connection before it marks the transaction read-only, so
+ * routing on the synchronization flag would always see read-write. The lazy proxy defers the
+ * physical borrow until the first statement, by which point Connection.setReadOnly(true) has
+ * picked the read-only target.
+ */
+public class ReadWriteDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+  private final DataSource primary;
+
+  public ReadWriteDataSource(DataSource primary, ReadReplicas replicas) {
+    super(primary);
+    this.primary = primary;
+    setReadOnlyDataSource(
+        new AbstractDataSource() {
+          @Override
+          public Connection getConnection() throws SQLException {
+            return replicas.getConnection(primary);
+          }
+
+          @Override
+          public Connection getConnection(String username, String password)
+              throws SQLException {
+            throw new SQLFeatureNotSupportedException("Replicas use the configured credentials");
+          }
+        });
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (primary instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package org.services.usermanagementservice.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Pins a client's reads to the primary for a short window after it writes, so it never reads an
+ * older state from a lagging replica. The deadline travels in a cookie, which keeps this working
+ * across instances without shared state.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  static final String COOKIE = "db-primary-until";
+
+  private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+  private final Duration window;
+
+  public ReadYourWritesFilter(Duration window) {
+    this.window = window;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+
+    if (window.isZero()) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    boolean write = !SAFE_METHODS.contains(request.getMethod());
+
+    if (write) {
+      Cookie cookie = new Cookie(COOKIE, Long.toString(now + window.toMillis()));
+      cookie.setPath("/");
+      cookie.setHttpOnly(true);
+      cookie.setMaxAge((int) Math.max(1, window.toSeconds() + 1));
+      response.addCookie(cookie);
+    }
+
+    if (!write && !pinnedUntilAfter(request, now)) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    PrimaryPin.set();
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      PrimaryPin.clear();
+    }
+  }
+
+  private static boolean pinnedUntilAfter(HttpServletRequest request, long now) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return false;
+    }
+    for (Cookie cookie : cookies) {
+      if (COOKIE.equals(cookie.getName())) {
+        try {
+          return Long.parseLong(cookie.getValue()) > now;
+        } catch (NumberFormatException ex) {
+          return false;
+        }
+      }
+    }
+    return false;
+  }
+}
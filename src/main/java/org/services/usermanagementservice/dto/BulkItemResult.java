@@ -0,0 +1,18 @@
+package org.services.usermanagementservice.dto;
+
+import java.util.UUID;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class BulkItemResult {
+  // Position of the item in the request array.
+  private int index;
+  private UUID id;
+  private BulkItemStatus status;
+  private String message;
+}
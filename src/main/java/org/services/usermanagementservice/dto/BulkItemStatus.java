@@ -0,0 +1,11 @@
+package org.services.usermanagementservice.dto;
+
+public enum BulkItemStatus {
+  CREATED,
+  UPDATED,
+  DELETED,
+  DUPLICATE,
+  NOT_FOUND,
+  INVALID,
+  FAILED
+}
@@ -0,0 +1,17 @@
+package org.services.usermanagementservice.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class BulkOperationResponse {
+  private int requested;
+  private int succeeded;
+  private int failed;
+  private List<BulkItemResult> items;
+}
@@ -0,0 +1,21 @@
+package org.services.usermanagementservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class BulkUpdateItemDto {
+  @NotNull(message = "Id is required")
+  private UUID id;
+
+  @NotNull(message = "User is required")
+  @Valid
+  private UserRequestDto user;
+}
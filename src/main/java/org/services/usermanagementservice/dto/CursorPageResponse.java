@@ -0,0 +1,18 @@
+package org.services.usermanagementservice.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CursorPageResponse<T> {
+  private List<T> items;
+  private String nextCursor;
+  private boolean hasNext;
+  // Only populated on request, and then from planner statistics rather than count(*).
+  private Long estimatedTotal;
+}
@@ -0,0 +1,18 @@
+package org.services.usermanagementservice.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ThreadingStatsDto {
+  private boolean virtualThreads;
+  private int gatePermits;
+  private int gateAvailable;
+  private int gateWaiting;
+  private long gateAcquired;
+  private long gateTimeouts;
+  private long pinnedEvents;
+}
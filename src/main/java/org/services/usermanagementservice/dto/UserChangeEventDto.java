@@ -0,0 +1,23 @@
+package org.services.usermanagementservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class UserChangeEventDto {
+  private long id;
+  private UUID userId;
+  private UserChangeType type;
+
+  // User snapshot as stored in the outbox (already JSON); null for deletions.
+  @JsonRawValue private String payload;
+
+  private LocalDateTime createdAt;
+}
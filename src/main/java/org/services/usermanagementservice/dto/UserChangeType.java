@@ -0,0 +1,7 @@
+package org.services.usermanagementservice.dto;
+
+public enum UserChangeType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
@@ -0,0 +1,32 @@
+package org.services.usermanagementservice.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/** Partial update: a null (or absent) field means "leave unchanged". */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class UserPatchDto {
+  @Size(max = 255)
+  @Pattern(regexp = "(?s).*\\S.*", message = "Name must not be blank")
+  private String name;
+
+  @Email(message = "Email must be valid")
+  @Size(max = 255)
+  @Pattern(regexp = "(?s).*\\S.*", message = "Email must not be blank")
+  private String email;
+
+  @Size(max = 50)
+  private String phone;
+
+  @Size(max = 50)
+  @Pattern(regexp = "(?s).*\\S.*", message = "Role must not be blank")
+  private String role;
+
+  private Boolean active;
+}
@@ -19,4 +19,5 @@ public class UserResponseDto {
   private Boolean active;
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
+  private Long version;
 }
@@ -0,0 +1,18 @@
+package org.services.usermanagementservice.dto;
+
+import lombok.*;
+
+/** Optional filters for user search; null means "don't filter on this". */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class UserSearchCriteria {
+  private String role;
+  private Boolean active;
+  // Case-insensitive prefix of the user's name.
+  private String namePrefix;
+  // Matched case-insensitively against the part of the email after '@'.
+  private String emailDomain;
+}
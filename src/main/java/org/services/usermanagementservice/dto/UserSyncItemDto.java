@@ -0,0 +1,20 @@
+package org.services.usermanagementservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class UserSyncItemDto {
+  private UUID id;
+  private boolean deleted;
+  private LocalDateTime updatedAt;
+
+  // Current state of the user; null for a tombstone.
+  private UserResponseDto user;
+}
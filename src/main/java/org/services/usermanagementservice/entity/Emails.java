@@ -0,0 +1,17 @@
+package org.services.usermanagementservice.entity;
+
+import java.util.Locale;
+
+/**
+ * Canonical form of an email address as stored in users.email (enforced by the
+ * users_email_lowercase check constraint), so uniqueness and lookups ignore case. Every write and
+ * every email lookup, including the caches, goes through {@link #normalize}.
+ */
+public final class Emails {
+
+  private Emails() {}
+
+  public static String normalize(String email) {
+    return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+  }
+}
@@ -3,17 +3,30 @@ package org.services.usermanagementservice.entity;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Table(name = "users") // Always plural for table names
+@DynamicUpdate // UPDATE only the columns that actually changed
+@SQLRestriction("deleted_at IS NULL") // Tombstones are only visible to the sync feed
+// Second-level cache region, created and sized in HibernateCacheConfig.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 public class User {
 
-  @Id @GeneratedValue private UUID id;
+  public static final String CACHE_REGION = "users";
+
+  // Time-ordered (UuidV7) and assigned in the application, so inserts need no id round trip.
+  @Id private UUID id;
 
   @Column(nullable = false)
   private String name;
 
-  @Column(nullable = false, unique = true)
+  // Stored lowercased (check users_email_lowercase) and unique among live users only:
+  // partial index users_email_live_key.
+  @Column(nullable = false)
   private String email;
 
   private String phone;
@@ -24,11 +37,21 @@ public class User {
   @Column(nullable = false)
   private Boolean active = true;
 
+  // Timestamps are set once per write in the lifecycle callbacks below, not by every setter.
   @Column(name = "created_at", nullable = false)
-  private LocalDateTime createdAt = LocalDateTime.now();
+  private LocalDateTime createdAt;
 
   @Column(name = "updated_at", nullable = false)
-  private LocalDateTime updatedAt = LocalDateTime.now();
+  private LocalDateTime updatedAt;
+
+  // Optimistic locking: concurrent editors fail on flush instead of taking row locks.
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
+  // Set by a soft delete; the row is kept as a tombstone until the retention purge.
+  @Column(name = "deleted_at")
+  private LocalDateTime deletedAt;
 
   // --- Constructors ---
   public User() {}
@@ -39,8 +62,23 @@ public class User {
     this.phone = phone;
     this.role = role;
     this.active = true;
-    this.createdAt = LocalDateTime.now();
-    this.updatedAt = LocalDateTime.now();
+    LocalDateTime now = LocalDateTime.now();
+    this.createdAt = now;
+    this.updatedAt = now;
+  }
+
+  // --- Lifecycle ---
+  @PrePersist
+  void onPersist() {
+    if (id == null) id = UuidV7.generate();
+    if (createdAt == null) createdAt = LocalDateTime.now();
+    if (updatedAt == null) updatedAt = createdAt;
+  }
+
+  // Only runs when Hibernate found a dirty field, so a no-op update leaves updated_at alone.
+  @PreUpdate
+  void onUpdate() {
+    updatedAt = LocalDateTime.now();
   }
 
   // --- Getters & Setters ---
@@ -58,7 +96,6 @@ public class User {
 
   public void setName(String name) {
     this.name = name;
-    this.updatedAt = LocalDateTime.now();
   }
 
   public String getEmail() {
@@ -67,7 +104,6 @@ public class User {
 
   public void setEmail(String email) {
     this.email = email;
-    this.updatedAt = LocalDateTime.now();
   }
 
   public String getPhone() {
@@ -76,7 +112,6 @@ public class User {
 
   public void setPhone(String phone) {
     this.phone = phone;
-    this.updatedAt = LocalDateTime.now();
   }
 
   public String getRole() {
@@ -85,7 +120,6 @@ public class User {
 
   public void setRole(String role) {
     this.role = role;
-    this.updatedAt = LocalDateTime.now();
   }
 
   public Boolean getActive() {
@@ -94,7 +128,6 @@ public class User {
 
   public void setActive(Boolean active) {
     this.active = active;
-    this.updatedAt = LocalDateTime.now();
   }
 
   public LocalDateTime getCreatedAt() {
@@ -104,4 +137,12 @@ public class User {
   public LocalDateTime getUpdatedAt() {
     return updatedAt;
   }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public LocalDateTime getDeletedAt() {
+    return deletedAt;
+  }
 }
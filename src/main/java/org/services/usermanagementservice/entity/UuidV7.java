@@ -0,0 +1,55 @@
+package org.services.usermanagementservice.entity;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7): 48 bits of Unix milliseconds, a 12-bit sequence and 62
+ * random bits. Consecutive ids sort after each other, so primary key inserts append to the right
+ * edge of the btree instead of splitting random pages.
+ *
+ * <p>The timestamp and sequence share one {@link AtomicLong}, so ids are strictly increasing
+ * across threads in this JVM. More than 4096 ids in one millisecond carry into the next
+ * millisecond rather than blocking; the clock going backwards is absorbed the same way. The
+ * random bits come from {@link ThreadLocalRandom}: ids are identifiers, not secrets.
+ */
+public final class UuidV7 {
+
+  private static final int SEQUENCE_BITS = 12;
+
+  private static final long VERSION = 0x7000L;
+
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+
+  private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  // Unix millis << 12 | sequence of the last id handed out.
+  private static final AtomicLong LAST = new AtomicLong();
+
+  private UuidV7() {}
+
+  public static UUID generate() {
+    long floor = System.currentTimeMillis() << SEQUENCE_BITS;
+    long next;
+    long last;
+    do {
+      last = LAST.get();
+      next = Math.max(floor, last + 1);
+    } while (!LAST.compareAndSet(last, next));
+
+    long millis = next >>> SEQUENCE_BITS;
+    long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+    long msb = millis << 16 | VERSION | sequence;
+    long lsb = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+    return new UUID(msb, lsb);
+  }
+
+  /** Unix milliseconds embedded in a version 7 UUID. */
+  public static long timestamp(UUID uuid) {
+    if (uuid.version() != 7) {
+      throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+    }
+    return uuid.getMostSignificantBits() >>> 16;
+  }
+}
@@ -0,0 +1,40 @@
+package org.services.usermanagementservice.exception;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import org.hibernate.exception.ConstraintViolationException;
+
+/** Classifies constraint violations raised by the database so they can be mapped to API errors. */
+public final class DataIntegrityViolations {
+
+  private static final String UNIQUE_VIOLATION = "23505";
+
+  private DataIntegrityViolations() {}
+
+  /**
+   * True if the failure is a unique violation on the users email column. Matches on the
+   * constraint name (users_email_key, ...) or, for generated names, on Postgres' "Key (email)=..."
+   * detail.
+   */
+  public static boolean isDuplicateEmail(Throwable ex) {
+    for (Throwable t = ex; t != null; t = t.getCause()) {
+      if (t instanceof ConstraintViolationException cve
+          && UNIQUE_VIOLATION.equals(cve.getSQLState())
+          && cve.getConstraintName() != null
+          && mentionsEmail(cve.getConstraintName())) {
+        return true;
+      }
+      if (t instanceof SQLException sql
+          && UNIQUE_VIOLATION.equals(sql.getSQLState())
+          && sql.getMessage() != null
+          && mentionsEmail(sql.getMessage())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean mentionsEmail(String text) {
+    return text.toLowerCase(Locale.ROOT).contains("email");
+  }
+}
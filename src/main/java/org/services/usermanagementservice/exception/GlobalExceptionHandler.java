@@ -1,8 +1,14 @@
 package org.services.usermanagementservice.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.services.usermanagementservice.dto.CommonResponse;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -11,9 +17,22 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
-  private <T> ResponseEntity<CommonResponse<T>> buildError(HttpStatus status, String message) {
+  private final MeterRegistry meterRegistry;
+
+  // Every handled error is counted by exception type and status, so an error storm shows up
+  // separately from slow-but-successful requests.
+  private <T> ResponseEntity<CommonResponse<T>> buildError(
+      Exception ex, HttpStatus status, String message) {
+
+    meterRegistry
+        .counter(
+            "api.errors",
+            "type", ex.getClass().getSimpleName(),
+            "status", String.valueOf(status.value()))
+        .increment();
 
     CommonResponse<T> response =
         CommonResponse.<T>builder()
@@ -32,7 +51,7 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(UserNotFoundException.class)
   public ResponseEntity<CommonResponse<Void>> handleNotFound(UserNotFoundException ex) {
     log.warn("User not found: {}", ex.getMessage());
-    return buildError(HttpStatus.NOT_FOUND, ex.getMessage());
+    return buildError(ex, HttpStatus.NOT_FOUND, ex.getMessage());
   }
 
   /* ------------------------------------------------------
@@ -41,7 +60,84 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(DuplicateEmailException.class)
   public ResponseEntity<CommonResponse<Void>> handleDuplicate(DuplicateEmailException ex) {
     log.warn("Duplicate email: {}", ex.getMessage());
-    return buildError(HttpStatus.CONFLICT, ex.getMessage());
+    return buildError(ex, HttpStatus.CONFLICT, ex.getMessage());
+  }
+
+  /* ------------------------------------------------------
+     STALE If-Match VERSION
+  ------------------------------------------------------ */
+  @ExceptionHandler(VersionConflictException.class)
+  public ResponseEntity<CommonResponse<Void>> handleVersionConflict(VersionConflictException ex) {
+    log.warn("Version conflict: {}", ex.getMessage());
+    return buildError(ex, HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+  }
+
+  /* ------------------------------------------------------
+     CONCURRENT MODIFICATION (@Version CHECK ON FLUSH)
+  ------------------------------------------------------ */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<CommonResponse<Void>> handleOptimisticLock(
+      OptimisticLockingFailureException ex) {
+    log.warn("Optimistic lock failure: {}", ex.getMessage());
+    return buildError(ex, HttpStatus.CONFLICT, "User was modified concurrently; reload and retry");
+  }
+
+  /* ------------------------------------------------------
+     CONSTRAINT VIOLATIONS NOT TRANSLATED BY THE SERVICE
+  ------------------------------------------------------ */
+  @ExceptionHandler(DataIntegrityViolationException.class)
+  public ResponseEntity<CommonResponse<Void>> handleDataIntegrity(
+      DataIntegrityViolationException ex) {
+    if (DataIntegrityViolations.isDuplicateEmail(ex)) {
+      log.warn("Duplicate email: {}", ex.getMostSpecificCause().getMessage());
+      return buildError(ex, HttpStatus.CONFLICT, "Email already registered");
+    }
+    log.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+    return buildError(ex, HttpStatus.CONFLICT, "Request conflicts with existing data");
+  }
+
+  /* ------------------------------------------------------
+     INVALID REQUEST PARAMETERS
+  ------------------------------------------------------ */
+  @ExceptionHandler(InvalidRequestException.class)
+  public ResponseEntity<CommonResponse<Void>> handleInvalidRequest(InvalidRequestException ex) {
+    log.warn("Invalid request: {}", ex.getMessage());
+    return buildError(ex, HttpStatus.BAD_REQUEST, ex.getMessage());
+  }
+
+  /* ------------------------------------------------------
+     SYNC CURSOR OLDER THAN TOMBSTONE RETENTION
+  ------------------------------------------------------ */
+  @ExceptionHandler(SyncCursorExpiredException.class)
+  public ResponseEntity<CommonResponse<Void>> handleSyncCursorExpired(
+      SyncCursorExpiredException ex) {
+    log.warn("Expired sync cursor: {}", ex.getMessage());
+    return buildError(ex, HttpStatus.GONE, ex.getMessage());
+  }
+
+  /* ------------------------------------------------------
+     RATE LIMITED / SHED UNDER LOAD
+  ------------------------------------------------------ */
+  @ExceptionHandler(RateLimitExceededException.class)
+  public ResponseEntity<CommonResponse<Void>> handleRateLimited(RateLimitExceededException ex) {
+    log.debug("Rate limited: {}", ex.getMessage());
+    return withRetryAfter(
+        buildError(ex, HttpStatus.TOO_MANY_REQUESTS, ex.getMessage()), ex.getRetryAfter());
+  }
+
+  @ExceptionHandler(ServiceOverloadedException.class)
+  public ResponseEntity<CommonResponse<Void>> handleOverloaded(ServiceOverloadedException ex) {
+    log.debug("Request shed: {}", ex.getMessage());
+    return withRetryAfter(
+        buildError(ex, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()), ex.getRetryAfter());
+  }
+
+  // Retry-After is in whole seconds; round up so clients never come back early.
+  private static <T> ResponseEntity<T> withRetryAfter(ResponseEntity<T> error, Duration wait) {
+    long seconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+    return ResponseEntity.status(error.getStatusCode())
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+        .body(error.getBody());
   }
 
   /* ------------------------------------------------------
@@ -59,7 +155,7 @@ public class GlobalExceptionHandler {
 
     log.warn("Validation error: {}", message);
 
-    return buildError(HttpStatus.BAD_REQUEST, message);
+    return buildError(ex, HttpStatus.BAD_REQUEST, message);
   }
 
   /* ------------------------------------------------------
@@ -68,6 +164,6 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(Exception.class)
   public ResponseEntity<CommonResponse<Void>> handleAll(Exception ex) {
     log.error("Unexpected server error", ex);
-    return buildError(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error occurred");
+    return buildError(ex, HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error occurred");
   }
 }
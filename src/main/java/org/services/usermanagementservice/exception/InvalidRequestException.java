@@ -0,0 +1,7 @@
+package org.services.usermanagementservice.exception;
+
+public class InvalidRequestException extends RuntimeException {
+  public InvalidRequestException(String message) {
+    super(message);
+  }
+}
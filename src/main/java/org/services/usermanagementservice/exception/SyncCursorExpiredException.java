@@ -0,0 +1,7 @@
+package org.services.usermanagementservice.exception;
+
+public class SyncCursorExpiredException extends RuntimeException {
+  public SyncCursorExpiredException(String message) {
+    super(message);
+  }
+}
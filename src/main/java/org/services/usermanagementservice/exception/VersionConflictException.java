@@ -0,0 +1,7 @@
+package org.services.usermanagementservice.exception;
+
+public class VersionConflictException extends RuntimeException {
+  public VersionConflictException(String message) {
+    super(message);
+  }
+}
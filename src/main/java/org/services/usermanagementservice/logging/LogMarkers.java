@@ -0,0 +1,15 @@
+package org.services.usermanagementservice.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+public final class LogMarkers {
+
+  /**
+   * Routine success-path events (request received, row returned). {@link SampledLogFilter} keeps
+   * one in every N per message, so they stay visible without costing a line per request.
+   */
+  public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+  private LogMarkers() {}
+}
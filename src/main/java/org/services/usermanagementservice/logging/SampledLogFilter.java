@@ -0,0 +1,43 @@
+package org.services.usermanagementservice.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Marker;
+
+/**
+ * Lets through one in every {@code rate} events marked {@link LogMarkers#SAMPLED}, counted per
+ * message template, so each endpoint's success log is sampled independently. Turbo filters run
+ * before the event is created, so a dropped event costs no formatting and no allocation beyond
+ * the call's argument array. Unmarked events and anything at WARN or above pass untouched.
+ */
+public class SampledLogFilter extends TurboFilter {
+
+  private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+  private int rate = 1;
+
+  public void setRate(int rate) {
+    this.rate = Math.max(1, rate);
+  }
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    // isXxxEnabled() checks arrive without a format; only real events are sampled.
+    if (rate == 1 || format == null || marker == null || !marker.contains(LogMarkers.SAMPLED)) {
+      return FilterReply.NEUTRAL;
+    }
+    if (level != null && level.isGreaterOrEqual(Level.WARN)) {
+      return FilterReply.NEUTRAL;
+    }
+    AtomicLong counter = counters.get(format);
+    if (counter == null) {
+      counter = counters.computeIfAbsent(format, key -> new AtomicLong());
+    }
+    return counter.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+}
@@ -0,0 +1,74 @@
+package org.services.usermanagementservice.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.services.usermanagementservice.exception.DuplicateEmailException;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.services.usermanagementservice.exception.UserNotFoundException;
+import org.services.usermanagementservice.exception.VersionConflictException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public UserService operation as user.service.operations, tagged with the method
+ * name and an outcome, and published as a histogram so percentiles can be aggregated across
+ * instances. Timers are cached per operation/outcome so the hot path does no meter lookup.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class UserServiceMetricsAspect {
+
+  static final String METRIC = "user.service.operations";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  @Around("execution(public * org.services.usermanagementservice.service.UserService.*(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    long start = System.nanoTime();
+    String outcome = "ok";
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable ex) {
+      outcome = outcomeOf(ex);
+      throw ex;
+    } finally {
+      timer(joinPoint.getSignature().getName(), outcome)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private Timer timer(String operation, String outcome) {
+    return timers.computeIfAbsent(
+        operation + ':' + outcome,
+        key ->
+            Timer.builder(METRIC)
+                .description("UserService operation latency")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+  }
+
+  static String outcomeOf(Throwable ex) {
+    if (ex instanceof UserNotFoundException) return "not_found";
+    if (ex instanceof DuplicateEmailException) return "duplicate";
+    if (ex instanceof InvalidRequestException || ex instanceof ConstraintViolationException) {
+      return "validation_error";
+    }
+    if (ex instanceof VersionConflictException
+        || ex instanceof OptimisticLockingFailureException) {
+      return "conflict";
+    }
+    return "error";
+  }
+}
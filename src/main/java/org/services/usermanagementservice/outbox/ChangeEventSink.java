@@ -0,0 +1,14 @@
+package org.services.usermanagementservice.outbox;
+
+import java.util.List;
+import org.services.usermanagementservice.dto.UserChangeEventDto;
+
+/**
+ * Destination for relayed outbox events. A batch is marked published only if publish returns
+ * normally; throwing leaves it in the outbox for the next attempt, so delivery is at-least-once
+ * and sinks should tolerate (or consumers deduplicate on) repeated event ids.
+ */
+public interface ChangeEventSink {
+
+  void publish(List<UserChangeEventDto> events) throws Exception;
+}
@@ -0,0 +1,41 @@
+package org.services.usermanagementservice.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.services.usermanagementservice.dto.UserChangeEventDto;
+
+/** Appends each batch to a file as NDJSON, one event per line, then forces it to disk. */
+public class FileChangeEventSink implements ChangeEventSink {
+
+  private final Path path;
+  private final ObjectWriter writer;
+
+  public FileChangeEventSink(Path path, ObjectMapper objectMapper) {
+    this.path = path;
+    this.writer = objectMapper.writerFor(UserChangeEventDto.class);
+  }
+
+  @Override
+  public synchronized void publish(List<UserChangeEventDto> events) throws IOException {
+    try (BufferedWriter out =
+        Files.newBufferedWriter(
+            path,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.DSYNC)) {
+      for (UserChangeEventDto event : events) {
+        out.write(writer.writeValueAsString(event));
+        out.newLine();
+      }
+    }
+  }
+}
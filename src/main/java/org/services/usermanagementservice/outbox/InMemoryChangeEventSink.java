@@ -0,0 +1,31 @@
+package org.services.usermanagementservice.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.services.usermanagementservice.dto.UserChangeEventDto;
+
+/** Keeps the most recent events in memory. Meant for tests and local runs. */
+public class InMemoryChangeEventSink implements ChangeEventSink {
+
+  private final int capacity;
+  private final Deque<UserChangeEventDto> events = new ArrayDeque<>();
+
+  public InMemoryChangeEventSink(int capacity) {
+    this.capacity = capacity;
+  }
+
+  @Override
+  public synchronized void publish(List<UserChangeEventDto> batch) {
+    for (UserChangeEventDto event : batch) {
+      if (events.size() == capacity) {
+        events.removeFirst();
+      }
+      events.addLast(event);
+    }
+  }
+
+  public synchronized List<UserChangeEventDto> getEvents() {
+    return List.copyOf(events);
+  }
+}
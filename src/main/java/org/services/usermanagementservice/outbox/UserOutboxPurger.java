@@ -0,0 +1,66 @@
+package org.services.usermanagementservice.outbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes outbox events past the retention window. The change feed can only be resumed from a
+ * cursor younger than the retention; older consumers have to resynchronise from a full export.
+ *
+ * <p>With a relay configured, only events the relay has published are deleted, however old the
+ * rest are. Unpublished events past the retention mean the sink has been failing for that long;
+ * they are counted in outbox.unpublished.stale and logged.
+ */
+@Slf4j
+@Component
+public class UserOutboxPurger {
+
+  private final UserOutboxRepository outboxRepository;
+  private final Duration retention;
+  private final boolean relayed;
+  private final AtomicLong staleUnpublished = new AtomicLong();
+
+  public UserOutboxPurger(
+      UserOutboxRepository outboxRepository,
+      Optional<UserOutboxRelay> relay,
+      MeterRegistry registry,
+      @Value("${app.outbox.retention:7d}") Duration retention) {
+    this.outboxRepository = outboxRepository;
+    this.retention = retention;
+    this.relayed = relay.isPresent();
+    Gauge.builder("outbox.unpublished.stale", staleUnpublished, AtomicLong::get)
+        .description("Unpublished outbox events older than the retention window")
+        .register(registry);
+  }
+
+  @Scheduled(fixedDelayString = "${app.outbox.purge-interval:1h}")
+  public void purge() {
+    LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+    if (!relayed) {
+      int deleted = outboxRepository.deleteCreatedBefore(cutoff);
+      if (deleted > 0) {
+        log.info("Purged {} outbox events older than {}", deleted, retention);
+      }
+      return;
+    }
+
+    int deleted = outboxRepository.deletePublishedBefore(cutoff);
+    if (deleted > 0) {
+      log.info("Purged {} published outbox events older than {}", deleted, retention);
+    }
+    long stale = outboxRepository.countUnpublishedBefore(cutoff);
+    staleUnpublished.set(stale);
+    if (stale > 0) {
+      log.warn("{} outbox events older than {} are still unpublished; kept", stale, retention);
+    }
+  }
+}
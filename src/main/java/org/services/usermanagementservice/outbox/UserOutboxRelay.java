@@ -0,0 +1,74 @@
+package org.services.usermanagementservice.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.services.usermanagementservice.dto.UserChangeEventDto;
+import org.services.usermanagementservice.repository.UserChangeRow;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves unpublished outbox events to the sink in batches. Each batch is locked, published and
+ * marked in one transaction; if the sink fails the transaction rolls back and the same events are
+ * picked up again on the next run.
+ */
+@Slf4j
+public class UserOutboxRelay {
+
+  private final UserOutboxRepository outboxRepository;
+  private final ChangeEventSink sink;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  public UserOutboxRelay(
+      UserOutboxRepository outboxRepository,
+      ChangeEventSink sink,
+      TransactionTemplate transactionTemplate,
+      int batchSize) {
+    this.outboxRepository = outboxRepository;
+    this.sink = sink;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${app.outbox.relay-interval:1s}")
+  public void relay() {
+    try {
+      // Drain the backlog in full batches, then wait for the next run.
+      int published;
+      do {
+        published = relayBatch();
+      } while (published == batchSize);
+    } catch (Exception ex) {
+      log.warn("Outbox relay failed, will retry", ex);
+    }
+  }
+
+  int relayBatch() {
+    Integer published =
+        transactionTemplate.execute(
+            status -> {
+              List<UserChangeRow> rows = outboxRepository.lockUnpublished(batchSize);
+              if (rows.isEmpty()) {
+                return 0;
+              }
+              List<UserChangeEventDto> events = rows.stream().map(UserChangeRow::event).toList();
+              try {
+                sink.publish(events);
+              } catch (RuntimeException ex) {
+                throw ex;
+              } catch (Exception ex) {
+                throw new IllegalStateException("Change event sink failed", ex);
+              }
+              outboxRepository.markPublished(
+                  events.stream().map(UserChangeEventDto::getId).toList(), LocalDateTime.now());
+              return events.size();
+            });
+    if (published != null && published > 0) {
+      log.debug("Relayed {} outbox events", published);
+    }
+    return published == null ? 0 : published;
+  }
+}
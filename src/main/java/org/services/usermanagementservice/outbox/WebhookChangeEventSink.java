@@ -0,0 +1,32 @@
+package org.services.usermanagementservice.outbox;
+
+import java.util.List;
+import org.services.usermanagementservice.dto.UserChangeEventDto;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+/**
+ * POSTs each batch to a webhook as a JSON array. Any non-2xx response fails the batch, which is
+ * then retried on the next relay run.
+ */
+public class WebhookChangeEventSink implements ChangeEventSink {
+
+  private final RestClient restClient;
+  private final String url;
+
+  public WebhookChangeEventSink(RestClient restClient, String url) {
+    this.restClient = restClient;
+    this.url = url;
+  }
+
+  @Override
+  public void publish(List<UserChangeEventDto> events) {
+    restClient
+        .post()
+        .uri(url)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(events)
+        .retrieve()
+        .toBodilessEntity();
+  }
+}
@@ -0,0 +1,37 @@
+package org.services.usermanagementservice.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+
+/**
+ * Position in the change feed: the writing transaction id and outbox id of the last event
+ * returned, base64url-encoded like {@link KeysetCursor}.
+ */
+public record ChangeCursor(long txid, long id) {
+
+  public static final ChangeCursor START = new ChangeCursor(0, 0);
+
+  private static final char SEPARATOR = '|';
+
+  public String encode() {
+    String raw = Long.toString(txid) + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static ChangeCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int sep = raw.indexOf(SEPARATOR);
+      if (sep < 0) {
+        throw new InvalidRequestException("Invalid cursor");
+      }
+      return new ChangeCursor(
+          Long.parseLong(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidRequestException("Invalid cursor");
+    }
+  }
+}
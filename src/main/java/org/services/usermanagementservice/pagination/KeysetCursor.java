@@ -0,0 +1,35 @@
+package org.services.usermanagementservice.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+
+/**
+ * Opaque continuation token for keyset pagination: the sort key of the last row returned plus its
+ * id as a tie-breaker, base64url-encoded so clients treat it as a black box.
+ */
+public record KeysetCursor(String key, UUID id) {
+
+  private static final char SEPARATOR = '|';
+
+  public String encode() {
+    String raw = key + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static KeysetCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int sep = raw.lastIndexOf(SEPARATOR);
+      if (sep < 0) {
+        throw new InvalidRequestException("Invalid cursor");
+      }
+      return new KeysetCursor(raw.substring(0, sep), UUID.fromString(raw.substring(sep + 1)));
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidRequestException("Invalid cursor");
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package org.services.usermanagementservice.pagination;
+
+import java.net.URI;
+import java.util.Optional;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Server-side limits for every paged endpoint (app.paging). Offset pages are capped in size and
+ * depth, since both cost a scan proportional to offset + size; larger reads are sent to the
+ * keyset (search) or streaming (export) endpoints, whose cost per row is constant.
+ */
+@Component
+public class PagingPolicy {
+
+  private final int defaultSize;
+  private final int maxSize;
+  private final long maxOffset;
+  private final int maxCursorLimit;
+
+  public PagingPolicy(
+      @Value("${app.paging.default-size:10}") int defaultSize,
+      @Value("${app.paging.max-size:100}") int maxSize,
+      @Value("${app.paging.max-offset:10000}") long maxOffset,
+      @Value("${app.paging.max-cursor-limit:1000}") int maxCursorLimit) {
+    this.defaultSize = defaultSize;
+    this.maxSize = maxSize;
+    this.maxOffset = maxOffset;
+    this.maxCursorLimit = maxCursorLimit;
+  }
+
+  /**
+   * Where a first-page request larger than max-size should go instead: the search endpoint's
+   * keyset pages (same order) up to the cursor limit, the streaming export beyond it.
+   */
+  public Optional<URI> oversizedPageRedirect(
+      int page, Integer size, String sort, String direction) {
+    int requested = pageSize(size);
+    if (requested <= maxSize || page != 0) {
+      return Optional.empty();
+    }
+    if (requested > maxCursorLimit) {
+      return Optional.of(URI.create("/api/users/export"));
+    }
+    return Optional.of(
+        UriComponentsBuilder.fromPath("/api/users/search")
+            .queryParam("sort", UserSortField.fromParameter(sort).getParameter())
+            .queryParam("direction", descending(direction) ? "desc" : "asc")
+            .queryParam("limit", requested)
+            .build()
+            .toUri());
+  }
+
+  /** Validated offset page, ordered by a whitelisted index-backed field with id as tie-break. */
+  public Pageable pageRequest(int page, Integer size, String sort, String direction) {
+    int requested = pageSize(size);
+    if (page < 0) {
+      throw new InvalidRequestException("page must not be negative");
+    }
+    if (requested > maxSize) {
+      throw new InvalidRequestException(
+          "size must be at most " + maxSize + "; use /api/users/search for larger pages");
+    }
+    if ((long) page * requested + requested > maxOffset) {
+      throw new InvalidRequestException(
+          "Pages beyond the first "
+              + maxOffset
+              + " users are not served by offset; use /api/users/search with a cursor");
+    }
+    Sort.Direction order = descending(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+    String property = UserSortField.fromParameter(sort).getParameter();
+    return PageRequest.of(page, requested, Sort.by(order, property).and(Sort.by(order, "id")));
+  }
+
+  /** Validates a keyset/feed page size. */
+  public int cursorLimit(int limit) {
+    if (limit < 1 || limit > maxCursorLimit) {
+      throw new InvalidRequestException("limit must be between 1 and " + maxCursorLimit);
+    }
+    return limit;
+  }
+
+  public boolean descending(String direction) {
+    if (direction.equalsIgnoreCase("asc")) {
+      return false;
+    }
+    if (direction.equalsIgnoreCase("desc")) {
+      return true;
+    }
+    throw new InvalidRequestException("direction must be asc or desc");
+  }
+
+  private int pageSize(Integer size) {
+    if (size == null) {
+      return defaultSize;
+    }
+    if (size < 1) {
+      throw new InvalidRequestException("size must be at least 1");
+    }
+    return size;
+  }
+}
@@ -0,0 +1,66 @@
+package org.services.usermanagementservice.pagination;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+
+/**
+ * Sort keys clients may request. Only columns with a matching (column, id) btree index are listed,
+ * so every ordering, including keyset continuation, is an index range scan.
+ */
+public enum UserSortField {
+  CREATED_AT("createdAt", "created_at", dto -> dto.getCreatedAt().toString()),
+  NAME("name", "name", UserResponseDto::getName),
+  EMAIL("email", "email", UserResponseDto::getEmail);
+
+  private final String parameter;
+  private final String column;
+  private final Function<UserResponseDto, String> keyOf;
+
+  UserSortField(String parameter, String column, Function<UserResponseDto, String> keyOf) {
+    this.parameter = parameter;
+    this.column = column;
+    this.keyOf = keyOf;
+  }
+
+  public String getParameter() {
+    return parameter;
+  }
+
+  public String getColumn() {
+    return column;
+  }
+
+  public static UserSortField fromParameter(String value) {
+    for (UserSortField field : values()) {
+      if (field.parameter.equalsIgnoreCase(value)) {
+        return field;
+      }
+    }
+    throw new InvalidRequestException("Unsupported sort field: " + value);
+  }
+
+  /** Cursor for the row after {@code last}; the sort field is embedded so it can't be mixed up. */
+  public KeysetCursor cursorAfter(UserResponseDto last) {
+    return new KeysetCursor(parameter + ":" + keyOf.apply(last), last.getId());
+  }
+
+  /** Decodes the sort key from a cursor into the JDBC value for this column. */
+  public Object keyFrom(KeysetCursor cursor) {
+    String prefix = parameter + ":";
+    if (!cursor.key().startsWith(prefix)) {
+      throw new InvalidRequestException("Cursor does not match sort field " + parameter);
+    }
+    String raw = cursor.key().substring(prefix.length());
+    if (this != CREATED_AT) {
+      return raw;
+    }
+    try {
+      return LocalDateTime.parse(raw);
+    } catch (DateTimeParseException ex) {
+      throw new InvalidRequestException("Invalid cursor");
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package org.services.usermanagementservice.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One {@link TokenBucket} per (client, cost class). Buckets live in a bounded Caffeine cache,
+ * whose lookups do not lock, and are dropped once idle long enough to have refilled anyway.
+ */
+public class ClientRateLimiter {
+
+  public record Limit(double ratePerSecond, int burst) {}
+
+  private final Map<CostClass, Limit> limits;
+  private final Cache<String, TokenBucket> buckets;
+
+  public ClientRateLimiter(Map<CostClass, Limit> limits, long maxClients, Duration idleTimeout) {
+    this.limits = new EnumMap<>(limits);
+    this.buckets =
+        Caffeine.newBuilder().maximumSize(maxClients).expireAfterAccess(idleTimeout).build();
+  }
+
+  /** Returns 0 when the request is admitted, otherwise the nanos until the client may retry. */
+  public long tryAcquire(String client, CostClass costClass) {
+    long now = System.nanoTime();
+    Limit limit = limits.get(costClass);
+    TokenBucket bucket =
+        buckets.get(
+            costClass.name() + ':' + client,
+            key -> new TokenBucket(limit.ratePerSecond(), limit.burst(), now));
+    return bucket.tryAcquire(now);
+  }
+}
@@ -0,0 +1,13 @@
+package org.services.usermanagementservice.ratelimit;
+
+/** Endpoints are limited per client and per class, so bulk reads cannot use up the cheap budget. */
+public enum CostClass {
+  /** Single-user reads and writes, small pages. */
+  STANDARD,
+  /** Unpaged or very large reads, exports and bulk writes. */
+  EXPENSIVE;
+
+  public String tag() {
+    return name().toLowerCase();
+  }
+}
@@ -0,0 +1,100 @@
+package org.services.usermanagementservice.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Decides, once per evaluation interval, whether the service is overloaded. Two signals: p99 of
+ * the time spent waiting for a pooled connection, and p99 latency of admitted standard requests.
+ * Past a threshold expensive requests are shed; past twice the threshold everything is. Requests
+ * only read the resulting level, a single volatile field.
+ */
+@Slf4j
+public class LoadShedder {
+
+  public enum Level {
+    NORMAL,
+    SHED_EXPENSIVE,
+    SHED_ALL
+  }
+
+  // Time to get a connection: HikariCP's own acquire timer and, in virtual-thread mode, the wait
+  // for a ConnectionGate permit that happens before a request reaches the pool.
+  static final List<String> CONNECTION_WAIT_TIMERS =
+      List.of("hikaricp.connections.acquire", "jdbc.gate.wait");
+
+  private final MeterRegistry registry;
+  private final Timer latency;
+  private final Duration poolWaitThreshold;
+  private final Duration latencyThreshold;
+  private volatile Level level = Level.NORMAL;
+
+  public LoadShedder(
+      MeterRegistry registry,
+      Duration poolWaitThreshold,
+      Duration latencyThreshold,
+      Duration window) {
+    this.registry = registry;
+    this.poolWaitThreshold = poolWaitThreshold;
+    this.latencyThreshold = latencyThreshold;
+    this.latency =
+        Timer.builder("loadshed.latency")
+            .description("Latency of admitted standard-cost requests, the shedding signal")
+            .publishPercentiles(0.99)
+            .distributionStatisticExpiry(window)
+            .distributionStatisticBufferLength(2)
+            .register(registry);
+    Gauge.builder("loadshed.level", this, shedder -> shedder.level.ordinal())
+        .description("0 normal, 1 shedding expensive requests, 2 shedding all requests")
+        .register(registry);
+  }
+
+  public Level getLevel() {
+    return level;
+  }
+
+  public void record(long nanos) {
+    latency.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Scheduled(fixedDelayString = "${app.shedding.evaluate-interval:1s}")
+  public void evaluate() {
+    double poolWait = 0;
+    for (String name : CONNECTION_WAIT_TIMERS) {
+      for (Timer timer : registry.find(name).timers()) {
+        poolWait = Math.max(poolWait, p99Millis(timer));
+      }
+    }
+    double load =
+        Math.max(
+            poolWait / poolWaitThreshold.toMillis(),
+            p99Millis(latency) / latencyThreshold.toMillis());
+
+    Level next = load >= 2 ? Level.SHED_ALL : load >= 1 ? Level.SHED_EXPENSIVE : Level.NORMAL;
+    if (next != level) {
+      log.warn(
+          "Load shedding {} -> {} (pool wait p99 {}ms, latency p99 {}ms)",
+          level,
+          next,
+          Math.round(poolWait),
+          Math.round(p99Millis(latency)));
+      level = next;
+    }
+  }
+
+  private static double p99Millis(Timer timer) {
+    for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+      if (percentile.percentile() == 0.99) {
+        return percentile.value(TimeUnit.MILLISECONDS);
+      }
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,137 @@
+package org.services.usermanagementservice.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import org.services.usermanagementservice.exception.RateLimitExceededException;
+import org.services.usermanagementservice.exception.ServiceOverloadedException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Admission control for /api/users: first load shedding, then the per-client token bucket of the
+ * request's cost class. Rejections are thrown, so GlobalExceptionHandler renders them (429 or
+ * 503, with Retry-After) like any other error.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+  private static final String START_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".start";
+
+  // Unpaged or unbounded work, whatever the parameters.
+  private static final Set<String> EXPENSIVE_PATTERNS =
+      Set.of("/api/users/all", "/api/users/export", "/api/users/bulk");
+
+  private static final Set<String> PAGE_SIZE_PARAMS = Set.of("size", "limit");
+
+  private final ClientRateLimiter rateLimiter;
+  private final LoadShedder loadShedder;
+  private final int expensivePageSize;
+  private final Duration overloadRetryAfter;
+  private final Map<CostClass, Counter> rateLimited = new EnumMap<>(CostClass.class);
+  private final Map<CostClass, Counter> shed = new EnumMap<>(CostClass.class);
+
+  public RateLimitInterceptor(
+      ClientRateLimiter rateLimiter,
+      LoadShedder loadShedder,
+      MeterRegistry registry,
+      int expensivePageSize,
+      Duration overloadRetryAfter) {
+    this.rateLimiter = rateLimiter;
+    this.loadShedder = loadShedder;
+    this.expensivePageSize = expensivePageSize;
+    this.overloadRetryAfter = overloadRetryAfter;
+    for (CostClass costClass : CostClass.values()) {
+      rateLimited.put(costClass, rejected(registry, "rate_limited", costClass));
+      shed.put(costClass, rejected(registry, "overloaded", costClass));
+    }
+  }
+
+  private static Counter rejected(MeterRegistry registry, String reason, CostClass costClass) {
+    return Counter.builder("api.requests.rejected")
+        .description("Requests turned away by rate limiting or load shedding")
+        .tag("reason", reason)
+        .tag("cost", costClass.tag())
+        .register(registry);
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!(handler instanceof HandlerMethod)) {
+      return true;
+    }
+
+    CostClass costClass = classify(request);
+
+    LoadShedder.Level level = loadShedder.getLevel();
+    if (level == LoadShedder.Level.SHED_ALL
+        || (level == LoadShedder.Level.SHED_EXPENSIVE && costClass == CostClass.EXPENSIVE)) {
+      shed.get(costClass).increment();
+      throw new ServiceOverloadedException(
+          "Service is overloaded; retry later", overloadRetryAfter);
+    }
+
+    long waitNanos = rateLimiter.tryAcquire(clientOf(request), costClass);
+    if (waitNanos > 0) {
+      rateLimited.get(costClass).increment();
+      throw new RateLimitExceededException(
+          "Rate limit exceeded for " + costClass.tag() + " requests",
+          Duration.ofNanos(waitNanos));
+    }
+
+    // Only standard requests feed the latency signal; expensive ones are slow by design.
+    if (costClass == CostClass.STANDARD) {
+      request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+      loadShedder.record(System.nanoTime() - start);
+    }
+  }
+
+  CostClass classify(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    if (pattern != null && EXPENSIVE_PATTERNS.contains(pattern.toString())) {
+      return CostClass.EXPENSIVE;
+    }
+    for (String param : PAGE_SIZE_PARAMS) {
+      String value = request.getParameter(param);
+      if (value != null) {
+        try {
+          if (Integer.parseInt(value.trim()) > expensivePageSize) {
+            return CostClass.EXPENSIVE;
+          }
+        } catch (NumberFormatException ex) {
+          // Left for the controller to reject.
+        }
+      }
+    }
+    return CostClass.STANDARD;
+  }
+
+  /**
+   * Bucket key: the authenticated principal when there is one, otherwise the client address.
+   * Nothing the caller can freely choose (such as a header) is used, or every request could claim
+   * a fresh bucket. Behind a load balancer the address is the one Tomcat resolved from
+   * X-Forwarded-For via trusted proxies only (server.forward-headers-strategy=native).
+   */
+  String clientOf(HttpServletRequest request) {
+    Principal principal = request.getUserPrincipal();
+    if (principal != null) {
+      return "principal:" + principal.getName();
+    }
+    return "address:" + request.getRemoteAddr();
+  }
+}
@@ -0,0 +1,39 @@
+package org.services.usermanagementservice.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is one "theoretical arrival time", so
+ * taking a token is a single compare-and-set with no refill bookkeeping and no lock.
+ */
+public class TokenBucket {
+
+  private final long intervalNanos;
+  private final long toleranceNanos;
+  private final AtomicLong theoreticalArrival;
+
+  /**
+   * @param ratePerSecond sustained rate at which tokens are refilled
+   * @param burst tokens available at once to a client that has been idle
+   */
+  public TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+    this.intervalNanos = Math.max(1, Math.round(1_000_000_000d / ratePerSecond));
+    this.toleranceNanos = intervalNanos * burst;
+    this.theoreticalArrival = new AtomicLong(nowNanos);
+  }
+
+  /** Takes one token; returns 0 when admitted, otherwise the nanos until a token is available. */
+  public long tryAcquire(long nowNanos) {
+    while (true) {
+      long arrival = theoreticalArrival.get();
+      long next = Math.max(arrival, nowNanos) + intervalNanos;
+      long excess = next - nowNanos - toleranceNanos;
+      if (excess > 0) {
+        return excess;
+      }
+      if (theoreticalArrival.compareAndSet(arrival, next)) {
+        return 0;
+      }
+    }
+  }
+}
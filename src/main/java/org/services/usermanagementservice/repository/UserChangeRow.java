@@ -0,0 +1,6 @@
+package org.services.usermanagementservice.repository;
+
+import org.services.usermanagementservice.dto.UserChangeEventDto;
+
+/** An outbox event together with its writing transaction id, which the feed cursor needs. */
+public record UserChangeRow(long txid, UserChangeEventDto event) {}
@@ -0,0 +1,130 @@
+package org.services.usermanagementservice.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.services.usermanagementservice.dto.BulkUpdateItemDto;
+import org.services.usermanagementservice.entity.User;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Set-based and batched statements for bulk operations, bypassing the persistence context. Each
+ * batch method returns one update count per row (0 = row skipped), so callers can report per item.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+  // Conflicts are reported as a 0 update count instead of aborting the batch.
+  private static final String INSERT_SQL =
+      "INSERT INTO users (id, name, email, phone, role, active, created_at, updated_at, version)"
+          + " VALUES (:id, :name, :email, :phone, :role, :active, :createdAt, :updatedAt, 0)"
+          + " ON CONFLICT (email) WHERE deleted_at IS NULL DO NOTHING";
+
+  private static final String UPDATE_SQL =
+      "UPDATE users SET name = :name, email = :email, phone = :phone, role = :role,"
+          + " active = COALESCE(:active, active), updated_at = :updatedAt,"
+          + " version = version + 1"
+          + " WHERE id = :id AND deleted_at IS NULL";
+
+  // Soft delete, as in UserRepository.softDeleteById.
+  private static final String DELETE_SQL =
+      "UPDATE users SET deleted_at = :deletedAt, updated_at = :deletedAt, version = version + 1"
+          + " WHERE id = :id AND deleted_at IS NULL";
+
+  private static final int EMAIL_FETCH_SIZE = 10_000;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public Map<String, UUID> findEmailOwners(Collection<String> emails) {
+    Map<String, UUID> owners = new HashMap<>();
+    if (emails.isEmpty()) {
+      return owners;
+    }
+    jdbcTemplate.query(
+        "SELECT email, id FROM users WHERE email IN (:emails) AND deleted_at IS NULL",
+        Map.of("emails", emails),
+        (RowCallbackHandler)
+            rs -> owners.put(rs.getString("email"), rs.getObject("id", UUID.class)));
+    return owners;
+  }
+
+  /**
+   * Streams every live email through a server-side cursor (Postgres only honours the fetch size
+   * inside a transaction) and returns how many were read.
+   */
+  @Transactional(readOnly = true)
+  public long forEachLiveEmail(Consumer<String> consumer) {
+    long[] count = {0};
+    jdbcTemplate
+        .getJdbcTemplate()
+        .query(
+            con -> {
+              PreparedStatement statement =
+                  con.prepareStatement("SELECT email FROM users WHERE deleted_at IS NULL");
+              statement.setFetchSize(EMAIL_FETCH_SIZE);
+              return statement;
+            },
+            (RowCallbackHandler)
+                rs -> {
+                  consumer.accept(rs.getString(1));
+                  count[0]++;
+                });
+    return count[0];
+  }
+
+  public int[] batchInsert(List<User> users, LocalDateTime createdAt) {
+    SqlParameterSource[] params =
+        users.stream()
+            .map(
+                u ->
+                    new MapSqlParameterSource()
+                        .addValue("id", u.getId())
+                        .addValue("name", u.getName())
+                        .addValue("email", u.getEmail())
+                        .addValue("phone", u.getPhone(), Types.VARCHAR)
+                        .addValue("role", u.getRole())
+                        .addValue("active", u.getActive())
+                        .addValue("createdAt", createdAt)
+                        .addValue("updatedAt", createdAt))
+            .toArray(SqlParameterSource[]::new);
+    return jdbcTemplate.batchUpdate(INSERT_SQL, params);
+  }
+
+  public int[] batchUpdate(List<BulkUpdateItemDto> items, LocalDateTime updatedAt) {
+    SqlParameterSource[] params =
+        items.stream()
+            .map(
+                it ->
+                    new MapSqlParameterSource()
+                        .addValue("id", it.getId())
+                        .addValue("name", it.getUser().getName())
+                        .addValue("email", it.getUser().getEmail())
+                        .addValue("phone", it.getUser().getPhone(), Types.VARCHAR)
+                        .addValue("role", it.getUser().getRole())
+                        .addValue("active", it.getUser().getActive(), Types.BOOLEAN)
+                        .addValue("updatedAt", updatedAt))
+            .toArray(SqlParameterSource[]::new);
+    return jdbcTemplate.batchUpdate(UPDATE_SQL, params);
+  }
+
+  public int[] batchDelete(List<UUID> ids, LocalDateTime deletedAt) {
+    SqlParameterSource[] params =
+        ids.stream()
+            .map(id -> new MapSqlParameterSource("id", id).addValue("deletedAt", deletedAt))
+            .toArray(SqlParameterSource[]::new);
+    return jdbcTemplate.batchUpdate(DELETE_SQL, params);
+  }
+}
@@ -0,0 +1,134 @@
+package org.services.usermanagementservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.services.usermanagementservice.dto.UserChangeEventDto;
+import org.services.usermanagementservice.dto.UserChangeType;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes and reads the user_outbox table. The append methods must run inside the transaction that
+ * changed the users, which is what makes the outbox consistent with the table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserOutboxRepository {
+
+  // The snapshot is built from the row as it stands in this transaction, in the same shape
+  // Jackson gives UserResponseDto, so create/update events carry the committed state.
+  private static final String APPEND_SNAPSHOTS_SQL =
+      "INSERT INTO user_outbox (user_id, event_type, payload)"
+          + " SELECT u.id, :type, json_build_object("
+          + "'id', u.id, 'name', u.name, 'email', u.email, 'phone', u.phone, 'role', u.role,"
+          + " 'active', u.active, 'createdAt', u.created_at, 'updatedAt', u.updated_at,"
+          + " 'version', u.version)::text"
+          + " FROM users u WHERE u.id IN (:ids)";
+
+  private static final String APPEND_DELETE_SQL =
+      "INSERT INTO user_outbox (user_id, event_type) VALUES (:userId, :type)";
+
+  private static final String EVENT_COLUMNS =
+      "id, CAST(CAST(txid AS TEXT) AS BIGINT) AS txid, user_id, event_type, payload, created_at";
+
+  private static final RowMapper<UserChangeRow> ROW_MAPPER =
+      (rs, rowNum) ->
+          new UserChangeRow(
+              rs.getLong("txid"),
+              new UserChangeEventDto(
+                  rs.getLong("id"),
+                  rs.getObject("user_id", UUID.class),
+                  UserChangeType.valueOf(rs.getString("event_type")),
+                  rs.getString("payload"),
+                  rs.getObject("created_at", LocalDateTime.class)));
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public void appendSnapshots(UserChangeType type, Collection<UUID> userIds) {
+    if (userIds.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.update(APPEND_SNAPSHOTS_SQL, Map.of("type", type.name(), "ids", userIds));
+  }
+
+  public void appendDeletes(Collection<UUID> userIds) {
+    if (userIds.isEmpty()) {
+      return;
+    }
+    SqlParameterSource[] params =
+        userIds.stream()
+            .map(
+                id ->
+                    new MapSqlParameterSource()
+                        .addValue("userId", id)
+                        .addValue("type", UserChangeType.DELETED.name()))
+            .toArray(SqlParameterSource[]::new);
+    jdbcTemplate.batchUpdate(APPEND_DELETE_SQL, params);
+  }
+
+  /**
+   * Events after the given position whose writing transaction is older than every transaction
+   * still in progress (pg_snapshot_xmin), so nothing can later commit behind the returned page.
+   */
+  public List<UserChangeRow> findChangesAfter(long txid, long id, int limit) {
+    return jdbcTemplate.query(
+        "SELECT " + EVENT_COLUMNS + " FROM user_outbox"
+            + " WHERE (txid, id) > (CAST(CAST(:txid AS TEXT) AS XID8), :id)"
+            + " AND txid < pg_snapshot_xmin(pg_current_snapshot())"
+            + " ORDER BY txid, id LIMIT :limit",
+        new MapSqlParameterSource()
+            .addValue("txid", txid)
+            .addValue("id", id)
+            .addValue("limit", limit),
+        ROW_MAPPER);
+  }
+
+  /** Locks the oldest unpublished events; concurrent relays skip rows another one holds. */
+  public List<UserChangeRow> lockUnpublished(int limit) {
+    return jdbcTemplate.query(
+        "SELECT " + EVENT_COLUMNS + " FROM user_outbox"
+            + " WHERE published_at IS NULL ORDER BY id LIMIT :limit"
+            + " FOR UPDATE SKIP LOCKED",
+        Map.of("limit", limit),
+        ROW_MAPPER);
+  }
+
+  public void markPublished(Collection<Long> ids, LocalDateTime publishedAt) {
+    jdbcTemplate.update(
+        "UPDATE user_outbox SET published_at = :publishedAt WHERE id IN (:ids)",
+        Map.of("publishedAt", publishedAt, "ids", ids));
+  }
+
+  /** Purge without a relay, when nothing is ever marked published. */
+  public int deleteCreatedBefore(LocalDateTime cutoff) {
+    return jdbcTemplate.update(
+        "DELETE FROM user_outbox WHERE created_at < :cutoff", Map.of("cutoff", cutoff));
+  }
+
+  /**
+   * Purge with a relay: only events already handed to the sink. An event is published after it
+   * is created, so the created_at bound is implied and only lets the scan use its index.
+   */
+  public int deletePublishedBefore(LocalDateTime cutoff) {
+    return jdbcTemplate.update(
+        "DELETE FROM user_outbox WHERE created_at < :cutoff"
+            + " AND published_at IS NOT NULL AND published_at < :cutoff",
+        Map.of("cutoff", cutoff));
+  }
+
+  public long countUnpublishedBefore(LocalDateTime cutoff) {
+    Long count =
+        jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM user_outbox WHERE published_at IS NULL AND created_at < :cutoff",
+            Map.of("cutoff", cutoff),
+            Long.class);
+    return count == null ? 0 : count;
+  }
+}
@@ -1,11 +1,89 @@
 package org.services.usermanagementservice.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.services.usermanagementservice.dto.UserResponseDto;
 import org.services.usermanagementservice.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 
-  Optional<User> findByEmail(String email);
+  int STREAM_FETCH_SIZE = 1000;
+
+  // Read paths project straight into the response DTO: no managed entities, so no
+  // persistence-context entries or dirty-checking snapshots, and one allocation per row.
+  String SELECT_RESPONSE_DTO =
+      "select new org.services.usermanagementservice.dto.UserResponseDto("
+          + "u.id, u.name, u.email, u.phone, u.role, u.active,"
+          + " u.createdAt, u.updatedAt, u.version)"
+          + " from User u";
+
+  // A single probe of users_email_live_key; pass the address through Emails.normalize first.
+  @Query("select u from User u where u.email = :email")
+  Optional<User> findByEmail(@Param("email") String email);
+
+  @Query(SELECT_RESPONSE_DTO + " where u.id = :id")
+  Optional<UserResponseDto> findResponseById(@Param("id") UUID id);
+
+  @Query(SELECT_RESPONSE_DTO)
+  List<UserResponseDto> findAllResponses();
+
+  @Query(value = SELECT_RESPONSE_DTO, countQuery = "select count(u) from User u")
+  Page<UserResponseDto> findResponsePage(Pageable pageable);
+
+  // Server-side cursor: Postgres only honours the fetch size inside a transaction.
+  @Query(SELECT_RESPONSE_DTO)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+  Stream<UserResponseDto> streamAll();
+
+  // Keyset pagination over idx_users_created_at_id. Callers pass PageRequest.of(0, limit);
+  // the List return type means no count(*) is issued.
+  @Query(SELECT_RESPONSE_DTO + " order by u.createdAt asc, u.id asc")
+  List<UserResponseDto> findFirstKeysetPage(Pageable limit);
+
+  // The redundant ">=" bound gives Postgres an index condition, so the scan starts at the
+  // cursor instead of filtering from the first row.
+  @Query(
+      SELECT_RESPONSE_DTO
+          + " where u.createdAt >= :createdAt"
+          + " and (u.createdAt > :createdAt or u.id > :id)"
+          + " order by u.createdAt asc, u.id asc")
+  List<UserResponseDto> findKeysetPageAfter(
+      @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable limit);
+
+  // Planner estimate; reltuples is -1 until the table has been analyzed.
+  @Query(
+      value = "SELECT CAST(GREATEST(reltuples, 0) AS BIGINT) FROM pg_class WHERE relname = 'users'",
+      nativeQuery = true)
+  Long estimateCount();
+
+  // Lightweight lookups backing conditional GETs (ETag / If-None-Match).
+  @Query("select u.version from User u where u.id = :id")
+  Optional<Long> findVersionById(@Param("id") UUID id);
+
+  // Soft delete in one statement: the row stays as a tombstone for incremental sync, and the
+  // updated_at bump moves it past every client's watermark. Bulk DML makes Hibernate clear
+  // whole cache regions (a JPQL update the users region, an unsynchronized native one all of
+  // them), so the query is synchronized on a space no entity maps and the caller evicts just
+  // this id (UserCacheInvalidator.invalidate).
+  @Modifying(clearAutomatically = true)
+  @Query(
+      value =
+          "UPDATE users SET deleted_at = :deletedAt, updated_at = :deletedAt,"
+              + " version = version + 1"
+              + " WHERE id = :id AND deleted_at IS NULL",
+      nativeQuery = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_soft_delete"))
+  int softDeleteById(@Param("id") UUID id, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -0,0 +1,29 @@
+package org.services.usermanagementservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.springframework.jdbc.core.RowMapper;
+
+/** Row mappers shared by the JDBC repositories. */
+public final class UserRowMappers {
+
+  /** Column list matching {@link #RESPONSE_DTO}. */
+  public static final String RESPONSE_DTO_COLUMNS =
+      "id, name, email, phone, role, active, created_at, updated_at, version";
+
+  public static final RowMapper<UserResponseDto> RESPONSE_DTO =
+      (rs, rowNum) ->
+          new UserResponseDto(
+              rs.getObject("id", UUID.class),
+              rs.getString("name"),
+              rs.getString("email"),
+              rs.getString("phone"),
+              rs.getString("role"),
+              rs.getBoolean("active"),
+              rs.getObject("created_at", LocalDateTime.class),
+              rs.getObject("updated_at", LocalDateTime.class),
+              rs.getLong("version"));
+
+  private UserRowMappers() {}
+}
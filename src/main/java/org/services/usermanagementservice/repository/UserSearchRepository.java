@@ -0,0 +1,83 @@
+package org.services.usermanagementservice.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.dto.UserSearchCriteria;
+import org.services.usermanagementservice.pagination.UserSortField;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Filtered, keyset-paged user search. The SQL is assembled here rather than through JPA so each
+ * predicate is written exactly like the expression of the index that serves it (see
+ * V4__users_search_indexes.sql); Postgres only uses an expression index on a textual match.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSearchRepository {
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public List<UserResponseDto> search(
+      UserSearchCriteria criteria,
+      UserSortField sort,
+      boolean descending,
+      Object afterKey,
+      UUID afterId,
+      int limit) {
+
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    List<String> predicates = new ArrayList<>();
+    // Tombstones are served by the sync feed only.
+    predicates.add("deleted_at IS NULL");
+
+    if (criteria.getRole() != null) {
+      predicates.add("role = :role");
+      params.addValue("role", criteria.getRole());
+    }
+    if (criteria.getActive() != null) {
+      predicates.add("active = :active");
+      params.addValue("active", criteria.getActive());
+    }
+    if (criteria.getNamePrefix() != null) {
+      // idx_users_name_lower_prefix (text_pattern_ops) serves left-anchored LIKE.
+      predicates.add("lower(name) LIKE :namePrefix");
+      String prefix = criteria.getNamePrefix().toLowerCase(Locale.ROOT);
+      params.addValue("namePrefix", escapeLike(prefix) + "%");
+    }
+    if (criteria.getEmailDomain() != null) {
+      predicates.add("lower(split_part(email, '@', 2)) = :emailDomain");
+      params.addValue("emailDomain", criteria.getEmailDomain().toLowerCase(Locale.ROOT));
+    }
+    if (afterKey != null) {
+      predicates.add(
+          "(" + sort.getColumn() + ", id) " + (descending ? "<" : ">") + " (:afterKey, :afterId)");
+      params.addValue("afterKey", afterKey);
+      params.addValue("afterId", afterId);
+    }
+
+    String direction = descending ? "DESC" : "ASC";
+    StringBuilder sql = new StringBuilder("SELECT ");
+    sql.append(UserRowMappers.RESPONSE_DTO_COLUMNS).append(" FROM users");
+    sql.append(" WHERE ").append(String.join(" AND ", predicates));
+    sql.append(" ORDER BY ")
+        .append(sort.getColumn())
+        .append(' ')
+        .append(direction)
+        .append(", id ")
+        .append(direction)
+        .append(" LIMIT :limit");
+    params.addValue("limit", limit);
+
+    return jdbcTemplate.query(sql.toString(), params, UserRowMappers.RESPONSE_DTO);
+  }
+
+  private static String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
@@ -0,0 +1,104 @@
+package org.services.usermanagementservice.repository;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.services.usermanagementservice.dto.UserSyncItemDto;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads users, tombstones included, in (updated_at, id) order over idx_users_updated_at_id. JDBC
+ * rather than JPA because the entity's restriction hides soft-deleted rows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSyncRepository {
+
+  private static final RowMapper<UserSyncItemDto> ROW_MAPPER =
+      (rs, rowNum) -> {
+        UUID id = rs.getObject("id", UUID.class);
+        LocalDateTime updatedAt = rs.getObject("updated_at", LocalDateTime.class);
+        if (rs.getObject("deleted_at") != null) {
+          return new UserSyncItemDto(id, true, updatedAt, null);
+        }
+        return new UserSyncItemDto(
+            id, false, updatedAt, UserRowMappers.RESPONSE_DTO.mapRow(rs, rowNum));
+      };
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  /**
+   * Rows changed after the (updatedAt, id) position, up to and including the horizon. Pass a null
+   * position to start from the beginning.
+   */
+  public List<UserSyncItemDto> findChangedAfter(
+      LocalDateTime afterUpdatedAt, UUID afterId, LocalDateTime horizon, int limit) {
+
+    MapSqlParameterSource params =
+        new MapSqlParameterSource().addValue("horizon", horizon).addValue("limit", limit);
+
+    StringBuilder sql =
+        new StringBuilder("SELECT ")
+            .append(UserRowMappers.RESPONSE_DTO_COLUMNS)
+            .append(", deleted_at FROM users WHERE updated_at <= :horizon");
+    if (afterUpdatedAt != null) {
+      sql.append(" AND (updated_at, id) > (:afterUpdatedAt, :afterId)");
+      params.addValue("afterUpdatedAt", afterUpdatedAt).addValue("afterId", afterId);
+    }
+    sql.append(" ORDER BY updated_at, id LIMIT :limit");
+
+    return jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+  }
+
+  /**
+   * Start of the oldest transaction in this database that has written and not yet finished
+   * (backend_xid is only assigned on the first write, so long read-only exports do not count), in
+   * the JVM's zone like updated_at. Empty when there is none, or when this role may not see other
+   * sessions' activity (it needs pg_read_all_stats unless every writer uses the same role).
+   */
+  public Optional<LocalDateTime> findOldestWriteStart() {
+    OffsetDateTime start =
+        jdbcTemplate
+            .getJdbcTemplate()
+            .queryForObject(
+                "SELECT min(xact_start) FROM pg_stat_activity"
+                    + " WHERE datname = current_database() AND backend_xid IS NOT NULL",
+                OffsetDateTime.class);
+    return Optional.ofNullable(start)
+        .map(s -> s.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+  }
+
+  /** Newest updated_at of any purged tombstone; empty until a purge has deleted one. */
+  public Optional<LocalDateTime> findPurgedThrough() {
+    return Optional.ofNullable(
+        jdbcTemplate
+            .getJdbcTemplate()
+            .queryForObject(
+                "SELECT max(purged_through) FROM user_sync_purge", LocalDateTime.class));
+  }
+
+  /**
+   * Deletes tombstones older than the cutoff and, in the same statement, advances the purge mark
+   * read by {@link #findPurgedThrough()}, so the mark can never lag a deletion.
+   */
+  public int purgeTombstonesBefore(LocalDateTime cutoff) {
+    Integer purged =
+        jdbcTemplate.queryForObject(
+            "WITH purged AS (DELETE FROM users WHERE deleted_at < :cutoff RETURNING updated_at),"
+                + " marked AS (INSERT INTO user_sync_purge (id, purged_through)"
+                + " SELECT TRUE, max(updated_at) FROM purged HAVING count(*) > 0"
+                + " ON CONFLICT (id) DO UPDATE SET purged_through ="
+                + " GREATEST(user_sync_purge.purged_through, EXCLUDED.purged_through))"
+                + " SELECT count(*) FROM purged",
+            new MapSqlParameterSource("cutoff", cutoff),
+            Integer.class);
+    return purged == null ? 0 : purged;
+  }
+}
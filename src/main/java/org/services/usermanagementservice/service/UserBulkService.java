@@ -0,0 +1,395 @@
+package org.services.usermanagementservice.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.services.usermanagementservice.cache.RegisteredEmails;
+import org.services.usermanagementservice.cache.UserCacheInvalidator;
+import org.services.usermanagementservice.dto.BulkItemResult;
+import org.services.usermanagementservice.dto.BulkItemStatus;
+import org.services.usermanagementservice.dto.BulkOperationResponse;
+import org.services.usermanagementservice.dto.BulkUpdateItemDto;
+import org.services.usermanagementservice.dto.UserChangeType;
+import org.services.usermanagementservice.dto.UserRequestDto;
+import org.services.usermanagementservice.entity.Emails;
+import org.services.usermanagementservice.entity.User;
+import org.services.usermanagementservice.entity.UuidV7;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.services.usermanagementservice.repository.UserJdbcRepository;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk create/update/delete. Items are validated individually, duplicate emails are resolved with
+ * one set-based query per chunk, and each chunk is written as a single JDBC batch in its own
+ * transaction. A failing chunk is retried row by row, so one bad item never aborts the rest.
+ * Outbox events for the rows a chunk changed are written in that same transaction.
+ */
+@Service
+@Slf4j
+public class UserBulkService {
+
+    private static final String EMAIL_TAKEN = "Email already registered";
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final UserOutboxRepository outboxRepository;
+    private final RegisteredEmails registeredEmails;
+    private final UserCacheInvalidator cacheInvalidator;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public UserBulkService(
+            UserJdbcRepository userJdbcRepository,
+            UserOutboxRepository outboxRepository,
+            RegisteredEmails registeredEmails,
+            UserCacheInvalidator cacheInvalidator,
+            Validator validator,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.bulk.chunk-size:500}") int chunkSize,
+            @Value("${app.bulk.max-items:100000}") int maxItems) {
+        this.userJdbcRepository = userJdbcRepository;
+        this.outboxRepository = outboxRepository;
+        this.registeredEmails = registeredEmails;
+        this.cacheInvalidator = cacheInvalidator;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    private record Item<T>(int index, T value) {}
+
+    // ---------------------------------------------------------
+    // BULK CREATE
+    // ---------------------------------------------------------
+    public BulkOperationResponse createUsers(List<UserRequestDto> requests) {
+
+        checkSize(requests);
+        log.info("Bulk creating {} users", requests.size());
+
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+        List<Item<UserRequestDto>> pending = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            UserRequestDto dto = requests.get(i);
+            String violation = firstViolation(dto);
+            if (violation != null) {
+                results[i] = new BulkItemResult(i, null, BulkItemStatus.INVALID, violation);
+                continue;
+            }
+            // Normalized in place: the duplicate checks and the INSERT all read dto.getEmail().
+            dto.setEmail(Emails.normalize(dto.getEmail()));
+            if (!seenEmails.add(dto.getEmail())) {
+                results[i] =
+                        new BulkItemResult(
+                                i, null, BulkItemStatus.DUPLICATE, "Email repeated in request");
+            } else {
+                pending.add(new Item<>(i, dto));
+            }
+        }
+
+        for (List<Item<UserRequestDto>> chunk : chunks(pending)) {
+            Set<String> existing =
+                    findEmailOwners(chunk.stream().map(it -> it.value().getEmail()).toList())
+                            .keySet();
+
+            List<Item<User>> rows = new ArrayList<>(chunk.size());
+            for (Item<UserRequestDto> item : chunk) {
+                UserRequestDto dto = item.value();
+                if (existing.contains(dto.getEmail())) {
+                    results[item.index()] =
+                            new BulkItemResult(
+                                    item.index(), null, BulkItemStatus.DUPLICATE, EMAIL_TAKEN);
+                    continue;
+                }
+                User user = new User(dto.getName(), dto.getEmail(), dto.getPhone(), dto.getRole());
+                user.setId(UuidV7.generate());
+                if (dto.getActive() != null) user.setActive(dto.getActive());
+                rows.add(new Item<>(item.index(), user));
+            }
+
+            executeBatch(
+                    rows,
+                    (values, now) -> {
+                        int[] counts = userJdbcRepository.batchInsert(values, now);
+                        outboxRepository.appendSnapshots(
+                                UserChangeType.CREATED, applied(values, counts, User::getId));
+                        return counts;
+                    },
+                    User::getId,
+                    BulkItemStatus.CREATED,
+                    // ON CONFLICT DO NOTHING: someone registered the email since the pre-check.
+                    BulkItemStatus.DUPLICATE,
+                    EMAIL_TAKEN,
+                    results);
+            rows.forEach(row -> registeredEmails.add(row.value().getEmail()));
+        }
+
+        return summarize(results);
+    }
+
+    // ---------------------------------------------------------
+    // BULK UPDATE
+    // ---------------------------------------------------------
+    public BulkOperationResponse updateUsers(List<BulkUpdateItemDto> requests) {
+
+        checkSize(requests);
+        log.info("Bulk updating {} users", requests.size());
+
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+        List<Item<BulkUpdateItemDto>> pending = new ArrayList<>();
+        Set<UUID> seenIds = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            BulkUpdateItemDto item = requests.get(i);
+            String violation = firstViolation(item);
+            if (violation != null) {
+                results[i] = new BulkItemResult(i, null, BulkItemStatus.INVALID, violation);
+                continue;
+            }
+            item.getUser().setEmail(Emails.normalize(item.getUser().getEmail()));
+            if (!seenIds.add(item.getId())) {
+                results[i] =
+                        new BulkItemResult(
+                                i, item.getId(), BulkItemStatus.INVALID, "Id repeated in request");
+            } else if (!seenEmails.add(item.getUser().getEmail())) {
+                results[i] =
+                        new BulkItemResult(
+                                i, item.getId(), BulkItemStatus.DUPLICATE, "Email repeated in request");
+            } else {
+                pending.add(new Item<>(i, item));
+            }
+        }
+
+        for (List<Item<BulkUpdateItemDto>> chunk : chunks(pending)) {
+            Map<String, UUID> owners =
+                    findEmailOwners(
+                            chunk.stream().map(it -> it.value().getUser().getEmail()).toList());
+
+            List<Item<BulkUpdateItemDto>> rows = new ArrayList<>(chunk.size());
+            for (Item<BulkUpdateItemDto> item : chunk) {
+                UUID owner = owners.get(item.value().getUser().getEmail());
+                if (owner != null && !owner.equals(item.value().getId())) {
+                    results[item.index()] =
+                            new BulkItemResult(
+                                    item.index(),
+                                    item.value().getId(),
+                                    BulkItemStatus.DUPLICATE,
+                                    EMAIL_TAKEN);
+                    continue;
+                }
+                rows.add(item);
+            }
+
+            executeBatch(
+                    rows,
+                    (values, now) -> {
+                        int[] counts = userJdbcRepository.batchUpdate(values, now);
+                        outboxRepository.appendSnapshots(
+                                UserChangeType.UPDATED,
+                                applied(values, counts, BulkUpdateItemDto::getId));
+                        return counts;
+                    },
+                    BulkUpdateItemDto::getId,
+                    BulkItemStatus.UPDATED,
+                    BulkItemStatus.NOT_FOUND,
+                    "User not found",
+                    results);
+            // JDBC writes bypass Hibernate, so its second-level cache is evicted as well.
+            rows.forEach(row -> cacheInvalidator.invalidate(row.value().getId()));
+            rows.forEach(row -> registeredEmails.add(row.value().getUser().getEmail()));
+        }
+
+        return summarize(results);
+    }
+
+    // ---------------------------------------------------------
+    // BULK DELETE
+    // ---------------------------------------------------------
+    public BulkOperationResponse deleteUsers(List<UUID> ids) {
+
+        checkSize(ids);
+        log.info("Bulk deleting {} users", ids.size());
+
+        BulkItemResult[] results = new BulkItemResult[ids.size()];
+        List<Item<UUID>> pending = new ArrayList<>();
+        Set<UUID> seenIds = new HashSet<>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            if (id == null) {
+                results[i] = new BulkItemResult(i, null, BulkItemStatus.INVALID, "Id is required");
+            } else if (!seenIds.add(id)) {
+                results[i] =
+                        new BulkItemResult(i, id, BulkItemStatus.INVALID, "Id repeated in request");
+            } else {
+                pending.add(new Item<>(i, id));
+            }
+        }
+
+        for (List<Item<UUID>> chunk : chunks(pending)) {
+            executeBatch(
+                    chunk,
+                    (values, now) -> {
+                        int[] counts = userJdbcRepository.batchDelete(values, now);
+                        outboxRepository.appendDeletes(
+                                applied(values, counts, Function.identity()));
+                        return counts;
+                    },
+                    Function.identity(),
+                    BulkItemStatus.DELETED,
+                    BulkItemStatus.NOT_FOUND,
+                    "User not found",
+                    results);
+            chunk.forEach(item -> cacheInvalidator.invalidate(item.value()));
+        }
+
+        return summarize(results);
+    }
+
+    // ---------------------------------------------------------
+    // HELPERS
+    // ---------------------------------------------------------
+    // The statement gets its timestamp inside the transaction that writes it, retries included,
+    // so updated_at never lags the commit by more than that transaction.
+    private <T> void executeBatch(
+            List<Item<T>> rows,
+            BiFunction<List<T>, LocalDateTime, int[]> statement,
+            Function<T, UUID> idOf,
+            BulkItemStatus applied,
+            BulkItemStatus skipped,
+            String skippedMessage,
+            BulkItemResult[] results) {
+
+        if (rows.isEmpty()) return;
+
+        List<T> values = rows.stream().map(Item::value).toList();
+        try {
+            int[] counts =
+                    transactionTemplate.execute(
+                            status -> statement.apply(values, LocalDateTime.now()));
+            for (int i = 0; i < rows.size(); i++) {
+                recordResult(rows.get(i), counts[i], idOf, applied, skipped, skippedMessage, results);
+            }
+        } catch (DataAccessException ex) {
+            log.warn(
+                    "Batch of {} rows failed, retrying row by row: {}",
+                    rows.size(),
+                    ex.getMessage());
+            for (Item<T> row : rows) {
+                UUID id = idOf.apply(row.value());
+                try {
+                    int[] counts =
+                            transactionTemplate.execute(
+                                    status ->
+                                            statement.apply(
+                                                    List.of(row.value()), LocalDateTime.now()));
+                    recordResult(row, counts[0], idOf, applied, skipped, skippedMessage, results);
+                } catch (DuplicateKeyException rowEx) {
+                    results[row.index()] =
+                            new BulkItemResult(row.index(), id, BulkItemStatus.DUPLICATE, EMAIL_TAKEN);
+                } catch (DataAccessException rowEx) {
+                    log.warn("Bulk item {} failed: {}", row.index(), rowEx.getMessage());
+                    results[row.index()] =
+                            new BulkItemResult(row.index(), id, BulkItemStatus.FAILED, "Write failed");
+                }
+            }
+        }
+    }
+
+    // Ids of the rows a batch actually changed; outbox events are written for those only.
+    private static <T> List<UUID> applied(List<T> values, int[] counts, Function<T, UUID> idOf) {
+        List<UUID> ids = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            if (counts[i] != 0) ids.add(idOf.apply(values.get(i)));
+        }
+        return ids;
+    }
+
+    private static <T> void recordResult(
+            Item<T> row,
+            int count,
+            Function<T, UUID> idOf,
+            BulkItemStatus applied,
+            BulkItemStatus skipped,
+            String skippedMessage,
+            BulkItemResult[] results) {
+        UUID id = idOf.apply(row.value());
+        results[row.index()] =
+                count == 0
+                        ? new BulkItemResult(row.index(), id, skipped, skippedMessage)
+                        : new BulkItemResult(row.index(), id, applied, null);
+    }
+
+    // Only emails the filter cannot rule out are looked up, so a chunk of new addresses costs
+    // no query.
+    private Map<String, UUID> findEmailOwners(List<String> emails) {
+        List<String> candidates = emails.stream().filter(registeredEmails::mightExist).toList();
+        Map<String, UUID> owners = userJdbcRepository.findEmailOwners(candidates);
+        registeredEmails.recordFalsePositives(candidates.size() - owners.size());
+        return owners;
+    }
+
+    private String firstViolation(Object item) {
+        if (item == null) return "Item is required";
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .findFirst()
+                .orElse(null);
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(items.subList(from, Math.min(from + chunkSize, items.size())));
+        }
+        return chunks;
+    }
+
+    private void checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidRequestException("At least one item is required");
+        }
+        if (items.size() > maxItems) {
+            throw new InvalidRequestException(
+                    "At most " + maxItems + " items are allowed per request");
+        }
+    }
+
+    private static BulkOperationResponse summarize(BulkItemResult[] results) {
+        int succeeded = 0;
+        for (BulkItemResult result : results) {
+            BulkItemStatus status = result.getStatus();
+            if (status == BulkItemStatus.CREATED
+                    || status == BulkItemStatus.UPDATED
+                    || status == BulkItemStatus.DELETED) {
+                succeeded++;
+            }
+        }
+        int failed = results.length - succeeded;
+        log.info("Bulk operation done: succeeded={}, failed={}", succeeded, failed);
+        return new BulkOperationResponse(results.length, succeeded, failed, Arrays.asList(results));
+    }
+}
@@ -0,0 +1,53 @@
+package org.services.usermanagementservice.service;
+
+import static org.services.usermanagementservice.logging.LogMarkers.SAMPLED;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.services.usermanagementservice.dto.CursorPageResponse;
+import org.services.usermanagementservice.dto.UserChangeEventDto;
+import org.services.usermanagementservice.pagination.ChangeCursor;
+import org.services.usermanagementservice.repository.UserChangeRow;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
+import org.springframework.stereotype.Service;
+
+/** Incremental change feed over the outbox, so consumers fetch deltas instead of the table. */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserChangeService {
+
+    private final UserOutboxRepository outboxRepository;
+
+    // ---------------------------------------------------------
+    // CHANGES SINCE CURSOR
+    // ---------------------------------------------------------
+    public CursorPageResponse<UserChangeEventDto> getChanges(String since, int limit) {
+
+        ChangeCursor position =
+                since == null || since.isBlank() ? ChangeCursor.START : ChangeCursor.decode(since);
+
+        log.info(SAMPLED, "Fetching user changes after {}, limit={}", position, limit);
+
+        // One extra row tells us whether more changes are already waiting.
+        List<UserChangeRow> rows =
+                outboxRepository.findChangesAfter(position.txid(), position.id(), limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<UserChangeRow> page = hasNext ? rows.subList(0, limit) : rows;
+
+        // Unlike the list endpoints the cursor is always returned: an empty page means "caught
+        // up", and the consumer polls again later from the same position.
+        ChangeCursor next = position;
+        if (!page.isEmpty()) {
+            UserChangeRow last = page.get(page.size() - 1);
+            next = new ChangeCursor(last.txid(), last.event().getId());
+        }
+
+        List<UserChangeEventDto> items = page.stream().map(UserChangeRow::event).toList();
+        return new CursorPageResponse<>(items, next.encode(), hasNext, null);
+    }
+}
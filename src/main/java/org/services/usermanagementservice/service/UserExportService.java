@@ -0,0 +1,99 @@
+package org.services.usermanagementservice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.services.usermanagementservice.repository.UserRepository;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams every user straight from a database cursor to the response body, so memory use stays
+ * flat regardless of table size.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserExportService {
+
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+        JSON(MediaType.APPLICATION_JSON);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public static Format fromParameter(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    // ---------------------------------------------------------
+    // EXPORT USERS
+    // ---------------------------------------------------------
+    // fields: the ?fields= property filter (see FieldSelectionAdvice); null writes every property.
+    @Transactional(readOnly = true)
+    public long export(Format format, FilterProvider fields, OutputStream out) throws IOException {
+
+        log.info("Exporting users as {}", format);
+
+        // One flush per row would turn the export into millions of tiny socket writes.
+        ObjectWriter writer =
+                objectMapper
+                        .writerFor(UserResponseDto.class)
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        if (fields != null) writer = writer.with(fields);
+
+        long count = 0;
+
+        // Rows arrive as DTO projections, so nothing accumulates in the persistence context.
+        try (Stream<UserResponseDto> users = userRepository.streamAll();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+
+            generator.setRootValueSeparator(null);
+
+            if (format == Format.JSON) generator.writeStartArray();
+
+            Iterator<UserResponseDto> it = users.iterator();
+            while (it.hasNext()) {
+                writer.writeValue(generator, it.next());
+                if (format == Format.NDJSON) generator.writeRaw('\n');
+                count++;
+            }
+
+            if (format == Format.JSON) generator.writeEndArray();
+        }
+
+        log.info("Exported {} users", count);
+
+        return count;
+    }
+}
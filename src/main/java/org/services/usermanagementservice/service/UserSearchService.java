@@ -0,0 +1,60 @@
+package org.services.usermanagementservice.service;
+
+import static org.services.usermanagementservice.logging.LogMarkers.SAMPLED;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.services.usermanagementservice.dto.CursorPageResponse;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.dto.UserSearchCriteria;
+import org.services.usermanagementservice.pagination.KeysetCursor;
+import org.services.usermanagementservice.pagination.UserSortField;
+import org.services.usermanagementservice.repository.UserSearchRepository;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserSearchService {
+
+    private final UserSearchRepository userSearchRepository;
+
+    // ---------------------------------------------------------
+    // SEARCH USERS (FILTERED, KEYSET PAGED)
+    // ---------------------------------------------------------
+    public CursorPageResponse<UserResponseDto> searchUsers(
+            UserSearchCriteria criteria,
+            UserSortField sort,
+            boolean descending,
+            String cursor,
+            int limit) {
+
+        log.info(SAMPLED, "Searching users: criteria={}, sort={}, desc={}, limit={}",
+                criteria, sort, descending, limit);
+
+        Object afterKey = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            afterKey = sort.keyFrom(position);
+            afterId = position.id();
+        }
+
+        // One extra row tells us whether another page exists without counting.
+        List<UserResponseDto> rows =
+                userSearchRepository.search(
+                        criteria, sort, descending, afterKey, afterId, limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<UserResponseDto> items = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? sort.cursorAfter(items.get(items.size() - 1)).encode() : null;
+
+        log.info(SAMPLED, "Search returned {} users, hasNext={}", items.size(), hasNext);
+
+        return new CursorPageResponse<>(items, nextCursor, hasNext, null);
+    }
+}
@@ -1,20 +1,41 @@
 package org.services.usermanagementservice.service;
 
+import static org.services.usermanagementservice.logging.LogMarkers.SAMPLED;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.services.usermanagementservice.cache.RegisteredEmails;
+import org.services.usermanagementservice.cache.UserCache;
+import org.services.usermanagementservice.cache.UserCacheInvalidator;
+import org.services.usermanagementservice.dto.CursorPageResponse;
+import org.services.usermanagementservice.dto.UserChangeType;
+import org.services.usermanagementservice.dto.UserPatchDto;
 import org.services.usermanagementservice.dto.UserRequestDto;
 import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.entity.Emails;
 import org.services.usermanagementservice.entity.User;
+import org.services.usermanagementservice.exception.DataIntegrityViolations;
 import org.services.usermanagementservice.exception.DuplicateEmailException;
+import org.services.usermanagementservice.exception.InvalidRequestException;
 import org.services.usermanagementservice.exception.UserNotFoundException;
+import org.services.usermanagementservice.exception.VersionConflictException;
+import org.services.usermanagementservice.pagination.KeysetCursor;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
 import org.services.usermanagementservice.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -22,133 +43,307 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserOutboxRepository outboxRepository;
+    private final UserCache userCache;
+    private final RegisteredEmails registeredEmails;
+    private final UserCacheInvalidator cacheInvalidator;
 
     // ---------------------------------------------------------
     // CREATE USER
     // ---------------------------------------------------------
+    @Transactional
     public UserResponseDto createUser(UserRequestDto dto) {
 
-        log.info("➡️ Creating user with email={}", dto.getEmail());
+        String email = Emails.normalize(dto.getEmail());
+        log.info(SAMPLED, "Creating user with email={}", email);
 
-        userRepository
-                .findByEmail(dto.getEmail())
-                .ifPresent(u -> {
-                    log.warn("❌ Email already exists: {}", dto.getEmail());
-                    throw new DuplicateEmailException("Email already registered");
-                });
+        rejectCachedEmail(email);
 
-        User user = new User(dto.getName(), dto.getEmail(), dto.getPhone(), dto.getRole());
+        User user = new User(dto.getName(), email, dto.getPhone(), dto.getRole());
 
         if (dto.getActive() != null) user.setActive(dto.getActive());
 
-        User saved = userRepository.save(user);
+        // Single INSERT; the unique constraint on email is the duplicate check.
+        User saved = saveAndFlush(user);
+        registeredEmails.add(email);
+        // Same transaction as the INSERT, so the change event exists exactly when the user does.
+        outboxRepository.appendSnapshots(UserChangeType.CREATED, List.of(saved.getId()));
 
-        log.info("✅ User created: id={}, email={}", saved.getId(), saved.getEmail());
+        log.info(SAMPLED, "User created: id={}, email={}", saved.getId(), saved.getEmail());
 
-        return toResponseDto(saved);
+        UserResponseDto response = toResponseDto(saved);
+        userCache.put(response);
+        return response;
     }
 
     // ---------------------------------------------------------
     // GET USER BY ID
     // ---------------------------------------------------------
+    @Transactional(readOnly = true)
     public UserResponseDto getUserById(UUID id) {
 
-        log.info("➡️ Retrieving user with id={}", id);
+        log.info(SAMPLED, "Retrieving user with id={}", id);
+
+        UserResponseDto cached = userCache.get(id).orElse(null);
+        if (cached != null) {
+            log.info(SAMPLED, "User retrieved from cache: id={}", id);
+            return cached;
+        }
+
+        // Taken before the query, so an update that evicts meanwhile keeps this row out.
+        long ticket = userCache.loadTicket();
 
-        User user =
+        UserResponseDto response =
                 userRepository
-                        .findById(id)
+                        .findResponseById(id)
                         .orElseThrow(() -> {
-                            log.warn("❌ User not found: id={}", id);
+                            log.warn("User not found: id={}", id);
                             return new UserNotFoundException("User not found");
                         });
 
-        log.info("✅ User retrieved: id={}", id);
+        log.info(SAMPLED, "User retrieved: id={}", id);
 
-        return toResponseDto(user);
+        userCache.putLoaded(response, ticket);
+        return response;
     }
 
     // ---------------------------------------------------------
     // GET ALL USERS
     // ---------------------------------------------------------
+    @Transactional(readOnly = true)
     public List<UserResponseDto> getAllUsers() {
-        log.info("➡️ Retrieving all users");
-        List<UserResponseDto> result =
-                userRepository.findAll().stream().map(this::toResponseDto).toList();
-        log.info("✅ Retrieved {} users", result.size());
+        log.info(SAMPLED, "Retrieving all users");
+        List<UserResponseDto> result = userRepository.findAllResponses();
+        log.info(SAMPLED, "Retrieved {} users", result.size());
         return result;
     }
 
     // ---------------------------------------------------------
     // UPDATE USER
     // ---------------------------------------------------------
+    @Transactional
     public UserResponseDto updateUser(UUID id, UserRequestDto dto) {
 
-        log.info("➡️ Updating user id={}", id);
+        log.info(SAMPLED, "Updating user id={}", id);
 
         User existing =
                 userRepository
                         .findById(id)
                         .orElseThrow(() -> {
-                            log.warn("❌ Cannot update — user not found: id={}", id);
+                            log.warn("Cannot update - user not found: id={}", id);
                             return new UserNotFoundException("User not found");
                         });
 
-        if (!existing.getEmail().equals(dto.getEmail())) {
-            userRepository
-                    .findByEmail(dto.getEmail())
-                    .ifPresent(u -> {
-                        log.warn("❌ Cannot update — duplicate email={}", dto.getEmail());
-                        throw new DuplicateEmailException("Email already registered");
-                    });
+        String email = Emails.normalize(dto.getEmail());
+        if (!existing.getEmail().equals(email)) {
+            rejectCachedEmail(email);
         }
 
         existing.setName(dto.getName());
-        existing.setEmail(dto.getEmail());
+        existing.setEmail(email);
         existing.setPhone(dto.getPhone());
         existing.setRole(dto.getRole());
 
         if (dto.getActive() != null) existing.setActive(dto.getActive());
 
-        User updated = userRepository.save(existing);
+        User updated = saveAndFlush(existing);
+        registeredEmails.add(email);
+        outboxRepository.appendSnapshots(UserChangeType.UPDATED, List.of(id));
+
+        log.info(SAMPLED, "User updated: id={}, email={}", updated.getId(), updated.getEmail());
+
+        // Evict first so the mapping for the previous email goes too.
+        userCache.evict(id);
+        cacheInvalidator.invalidatePeers(id);
+        UserResponseDto response = toResponseDto(updated);
+        userCache.put(response);
+        return response;
+    }
+
+    // ---------------------------------------------------------
+    // PATCH USER
+    // ---------------------------------------------------------
+    @Transactional
+    public UserResponseDto patchUser(UUID id, UserPatchDto dto, Long expectedVersion) {
+
+        log.info(SAMPLED, "Patching user id={}, expectedVersion={}", id, expectedVersion);
+
+        User existing =
+                userRepository
+                        .findById(id)
+                        .orElseThrow(() -> {
+                            log.warn("Cannot patch - user not found: id={}", id);
+                            return new UserNotFoundException("User not found");
+                        });
 
-        log.info("✅ User updated: id={}, email={}", updated.getId(), updated.getEmail());
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            log.warn("Cannot patch - stale version: id={}, current={}", id, existing.getVersion());
+            throw new VersionConflictException("User has been modified; reload and retry");
+        }
 
-        return toResponseDto(updated);
+        // Untouched fields stay clean, so @DynamicUpdate leaves their columns out of the UPDATE.
+        boolean changed = applyPatch(dto.getName(), existing::getName, existing::setName);
+        String email = Emails.normalize(dto.getEmail());
+        if (email != null && !email.equals(existing.getEmail())) {
+            rejectCachedEmail(email);
+            existing.setEmail(email);
+            registeredEmails.add(email);
+            changed = true;
+        }
+        changed |= applyPatch(dto.getPhone(), existing::getPhone, existing::setPhone);
+        changed |= applyPatch(dto.getRole(), existing::getRole, existing::setRole);
+        changed |= applyPatch(dto.getActive(), existing::getActive, existing::setActive);
+
+        // Nothing to write: no UPDATE, no version bump, no eviction and no change event.
+        if (!changed) {
+            log.info(SAMPLED, "User patch changed nothing: id={}", id);
+            return toResponseDto(existing);
+        }
+
+        User patched = saveAndFlush(existing);
+        outboxRepository.appendSnapshots(UserChangeType.UPDATED, List.of(id));
+
+        log.info(SAMPLED, "User patched: id={}, version={}", patched.getId(), patched.getVersion());
+
+        userCache.evict(id);
+        cacheInvalidator.invalidatePeers(id);
+        UserResponseDto response = toResponseDto(patched);
+        userCache.put(response);
+        return response;
     }
 
     // ---------------------------------------------------------
     // DELETE USER
     // ---------------------------------------------------------
+    @Transactional
     public void deleteUser(UUID id) {
 
-        log.info("➡️ Deleting user id={}", id);
+        log.info(SAMPLED, "Deleting user id={}", id);
 
-        if (!userRepository.existsById(id)) {
-            log.warn("❌ Cannot delete — user not found: id={}", id);
+        // Soft delete: the tombstone lets sync clients see the deletion (see UserSyncService).
+        if (userRepository.softDeleteById(id, LocalDateTime.now()) == 0) {
+            log.warn("Cannot delete - user not found: id={}", id);
             throw new UserNotFoundException("User not found");
         }
 
-        userRepository.deleteById(id);
+        outboxRepository.appendDeletes(List.of(id));
+        // The native UPDATE bypassed Hibernate's cache, so evict this id here and on peers.
+        cacheInvalidator.invalidate(id);
 
-        log.info("🗑️ User deleted: id={}", id);
+        log.info(SAMPLED, "User deleted: id={}", id);
     }
 
     // ---------------------------------------------------------
     // PAGINATION
     // ---------------------------------------------------------
-    public Page<UserResponseDto> getUsersPage(int page, int size) {
-        log.info("➡️ Fetching users page={}, size={}", page, size);
+    @Transactional(readOnly = true)
+    public Page<UserResponseDto> getUsersPage(Pageable pageable) {
+        log.info(SAMPLED, "Fetching users page={}", pageable);
+
+        Page<UserResponseDto> result = userRepository.findResponsePage(pageable);
+
+        log.info(SAMPLED, "Page fetched: totalElements={}", result.getTotalElements());
+
+        return result;
+    }
+
+    // ---------------------------------------------------------
+    // VERSION LOOKUPS (CONDITIONAL GET)
+    // ---------------------------------------------------------
+    @Transactional(readOnly = true)
+    public Long getUserVersion(UUID id) {
+        return userCache
+                .get(id)
+                .map(UserResponseDto::getVersion)
+                .orElseGet(() ->
+                        userRepository
+                                .findVersionById(id)
+                                .orElseThrow(() -> {
+                                    log.warn("User not found: id={}", id);
+                                    return new UserNotFoundException("User not found");
+                                }));
+    }
+
+    // ---------------------------------------------------------
+    // CURSOR (KEYSET) PAGINATION
+    // ---------------------------------------------------------
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserResponseDto> getUsersByCursor(
+            String cursor, int limit, boolean includeTotal) {
+
+        log.info(
+                SAMPLED,
+                "Fetching users by cursor, limit={}, includeTotal={}",
+                limit,
+                includeTotal);
+
+        // One extra row tells us whether another page exists without counting.
+        PageRequest window = PageRequest.of(0, limit + 1);
+
+        List<UserResponseDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = userRepository.findFirstKeysetPage(window);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows =
+                    userRepository.findKeysetPageAfter(
+                            parseCreatedAt(position.key()), position.id(), window);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<UserResponseDto> items = hasNext ? rows.subList(0, limit) : rows;
 
-        Page<User> result = userRepository.findAll(PageRequest.of(page, size));
+        String nextCursor = null;
+        if (hasNext) {
+            UserResponseDto last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt().toString(), last.getId()).encode();
+        }
+
+        Long estimatedTotal = includeTotal ? userRepository.estimateCount() : null;
 
-        log.info("📄 Page fetched: totalElements={}", result.getTotalElements());
+        log.info(SAMPLED, "Cursor page fetched: size={}, hasNext={}", items.size(), hasNext);
+
+        return new CursorPageResponse<>(items, nextCursor, hasNext, estimatedTotal);
+    }
+
+    private static LocalDateTime parseCreatedAt(String key) {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    // A cached owner rejects a duplicate without touching the database. Everything else goes
+    // straight to the write, where the unique constraint decides.
+    private void rejectCachedEmail(String email) {
+        if (userCache.getByEmail(email).isPresent()) {
+            log.warn("Email already exists: {}", email);
+            throw new DuplicateEmailException("Email already registered");
+        }
+    }
+
+    // Flushing surfaces the constraint violation here, so it can be translated, instead of at
+    // commit time.
+    private User saveAndFlush(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (!DataIntegrityViolations.isDuplicateEmail(ex)) throw ex;
+            log.warn("Email already exists: {}", user.getEmail());
+            throw new DuplicateEmailException("Email already registered");
+        }
+    }
 
-        return result.map(this::toResponseDto);
+    // Sets a supplied value that differs from the current one; true if it did.
+    private static <T> boolean applyPatch(T value, Supplier<T> current, Consumer<T> setter) {
+        if (value == null || value.equals(current.get())) return false;
+        setter.accept(value);
+        return true;
     }
 
-    // DTO mapping
-    private UserResponseDto toResponseDto(User user) {
+    // DTO mapping for the write paths, which already hold a managed entity.
+    static UserResponseDto toResponseDto(User user) {
         return new UserResponseDto(
                 user.getId(),
                 user.getName(),
@@ -157,6 +352,7 @@ public class UserService {
                 user.getRole(),
                 user.getActive(),
                 user.getCreatedAt(),
-                user.getUpdatedAt());
+                user.getUpdatedAt(),
+                user.getVersion());
     }
 }
\ No newline at end of file
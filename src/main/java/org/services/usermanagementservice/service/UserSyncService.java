@@ -0,0 +1,146 @@
+package org.services.usermanagementservice.service;
+
+import static org.services.usermanagementservice.logging.LogMarkers.SAMPLED;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.services.usermanagementservice.dto.CursorPageResponse;
+import org.services.usermanagementservice.dto.UserSyncItemDto;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.services.usermanagementservice.exception.SyncCursorExpiredException;
+import org.services.usermanagementservice.pagination.KeysetCursor;
+import org.services.usermanagementservice.repository.UserSyncRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Watermark-based incremental sync: everything changed after the client's (updated_at, id)
+ * position, deletions included as tombstones. Cost is proportional to the number of changes.
+ *
+ * <p>updated_at is stamped before commit, so a row can become visible with a timestamp older than
+ * rows already served. Pages therefore stop before the start of the oldest write transaction still
+ * in flight: anything it commits later is stamped after that point, however long it runs. The
+ * horizon is further held back by app.sync.settle-window, which covers the moment between stamping
+ * updated_at and the transaction's first write, and clock skew between application and database.
+ *
+ * <p>Cursors also carry the purge mark in force when they were issued: the newest updated_at of
+ * any tombstone purged so far. A cursor is only expired when a purge since then removed a
+ * tombstone past its position, so syncing old rows from scratch, or idling on a quiet table, never
+ * runs into 410 Gone.
+ */
+@Service
+@Slf4j
+public class UserSyncService {
+
+    // Separates the row's updated_at from the purge mark inside the cursor key.
+    private static final char MARK_SEPARATOR = '/';
+
+    private final UserSyncRepository userSyncRepository;
+    private final Duration settleWindow;
+    private final Duration tombstoneRetention;
+
+    public UserSyncService(
+            UserSyncRepository userSyncRepository,
+            @Value("${app.sync.settle-window:5s}") Duration settleWindow,
+            @Value("${app.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.userSyncRepository = userSyncRepository;
+        this.settleWindow = settleWindow;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    // ---------------------------------------------------------
+    // CHANGES SINCE WATERMARK
+    // ---------------------------------------------------------
+    public CursorPageResponse<UserSyncItemDto> getChangesSince(String since, int limit) {
+
+        log.info(SAMPLED, "Fetching user sync page, limit={}", limit);
+
+        LocalDateTime now = LocalDateTime.now();
+        // Read before the page: a purge in between is then caught by the next request.
+        LocalDateTime purgedThrough = userSyncRepository.findPurgedThrough().orElse(null);
+        LocalDateTime afterUpdatedAt = null;
+        UUID afterId = null;
+        if (since != null && !since.isBlank()) {
+            KeysetCursor position = KeysetCursor.decode(since);
+            String key = position.key();
+            int sep = key.indexOf(MARK_SEPARATOR);
+            afterUpdatedAt = parseTimestamp(sep < 0 ? key : key.substring(0, sep));
+            afterId = position.id();
+            // No mark means nothing had been purged when the cursor was issued.
+            LocalDateTime issuedMark = sep < 0 ? null : parseTimestamp(key.substring(sep + 1));
+            // A tombstone past the client's position was purged since the cursor was issued.
+            if (purgedThrough != null
+                    && purgedThrough.isAfter(afterUpdatedAt)
+                    && (issuedMark == null || purgedThrough.isAfter(issuedMark))) {
+                throw new SyncCursorExpiredException(
+                        "Deletions after this sync cursor have been purged; resync from scratch");
+            }
+        }
+
+        // One extra row tells us whether another page is already available.
+        List<UserSyncItemDto> rows =
+                userSyncRepository.findChangedAfter(
+                        afterUpdatedAt, afterId, horizon(now), limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<UserSyncItemDto> items = hasNext ? rows.subList(0, limit) : rows;
+
+        // The cursor is returned even for an empty page so clients keep their watermark.
+        String nextCursor =
+                afterUpdatedAt == null ? null : cursor(afterUpdatedAt, afterId, purgedThrough);
+        if (!items.isEmpty()) {
+            UserSyncItemDto last = items.get(items.size() - 1);
+            nextCursor = cursor(last.getUpdatedAt(), last.getId(), purgedThrough);
+        }
+
+        log.info(SAMPLED, "User sync page fetched: size={}, hasNext={}", items.size(), hasNext);
+
+        return new CursorPageResponse<>(items, nextCursor, hasNext, null);
+    }
+
+    // Rows at or before the horizon are committed: no transaction still running can add one.
+    private LocalDateTime horizon(LocalDateTime now) {
+        LocalDateTime visible =
+                userSyncRepository
+                        .findOldestWriteStart()
+                        .filter(start -> start.isBefore(now))
+                        .orElse(now);
+        return visible.minus(settleWindow);
+    }
+
+    // ---------------------------------------------------------
+    // TOMBSTONE RETENTION
+    // ---------------------------------------------------------
+    @Scheduled(fixedDelayString = "${app.sync.purge-interval:1h}")
+    public void purgeTombstones() {
+        int purged =
+                userSyncRepository.purgeTombstonesBefore(
+                        LocalDateTime.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("Purged {} user tombstones older than {}", purged, tombstoneRetention);
+        }
+    }
+
+    private static String cursor(LocalDateTime updatedAt, UUID id, LocalDateTime purgedThrough) {
+        String key =
+                purgedThrough == null
+                        ? updatedAt.toString()
+                        : updatedAt.toString() + MARK_SEPARATOR + purgedThrough;
+        return new KeysetCursor(key, id).encode();
+    }
+
+    private static LocalDateTime parseTimestamp(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+}
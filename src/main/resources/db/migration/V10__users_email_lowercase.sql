@@ -0,0 +1,31 @@
+-- Emails are stored lowercased (normalized on write by the service), which makes the plain
+-- unique index users_email_live_key case-insensitive as well. One index then serves lookups,
+-- uniqueness and ORDER BY email / keyset paging.
+--
+-- Live rows that differ only by case would collide once lowercased; those must be merged by
+-- hand first, so fail with the offending addresses rather than a bare unique violation.
+DO $$
+DECLARE
+    collisions text;
+BEGIN
+    SELECT string_agg(address, ', ') INTO collisions
+    FROM (SELECT lower(email) AS address
+          FROM users
+          WHERE deleted_at IS NULL
+          GROUP BY lower(email)
+          HAVING count(*) > 1
+          LIMIT 20) duplicates;
+    IF collisions IS NOT NULL THEN
+        RAISE EXCEPTION 'Live users share an email ignoring case: %', collisions;
+    END IF;
+END
+$$;
+
+-- Rewritten rows get a new updated_at and version so sync clients pick up the changed address.
+UPDATE users
+SET email = lower(email), updated_at = localtimestamp, version = version + 1
+WHERE email <> lower(email);
+
+-- NOT VALID: enforced for new writes immediately, existing rows are checked in V11 without
+-- holding this migration's exclusive lock.
+ALTER TABLE users ADD CONSTRAINT users_email_lowercase CHECK (email = lower(email)) NOT VALID;
@@ -0,0 +1,3 @@
+-- Separate transaction: validation scans the table under SHARE UPDATE EXCLUSIVE, so writes
+-- continue meanwhile.
+ALTER TABLE users VALIDATE CONSTRAINT users_email_lowercase;
@@ -0,0 +1,7 @@
+-- Newest updated_at among tombstones the retention purge has deleted, maintained by the purge
+-- itself. A sync cursor only has to be rejected when a purge since it was issued removed a
+-- tombstone past its position; old rows on their own never expire a cursor.
+CREATE TABLE IF NOT EXISTS user_sync_purge (
+    id             BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    purged_through TIMESTAMP NOT NULL
+);
@@ -0,0 +1,2 @@
+-- Backs keyset pagination ordered by (created_at, id).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
@@ -0,0 +1,16 @@
+-- Indexes backing GET /api/users/search. Each expression must match the predicate text in
+-- UserSearchRepository exactly for the planner to use it.
+
+-- Equality filters on role, optionally narrowed by active.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_role_active ON users (role, active);
+
+-- Case-insensitive name prefix: lower(name) LIKE 'abc%'.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_name_lower_prefix
+    ON users (lower(name) text_pattern_ops);
+
+-- Email domain: lower(split_part(email, '@', 2)) = 'example.com'.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_domain
+    ON users (lower(split_part(email, '@', 2)));
+
+-- Keyset ordering by name (created_at and email orderings use existing indexes).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_name_id ON users (name, id);
@@ -0,0 +1,22 @@
+-- Transactional outbox for user changes. Rows are written in the same transaction as the change
+-- to users, relayed to the configured sink, and served as an incremental feed.
+--
+-- txid is the writing transaction's id. The feed orders by (txid, id) and only serves rows whose
+-- transaction is older than every transaction still running, so a slow transaction that commits
+-- late can never land behind a cursor a consumer has already passed.
+CREATE TABLE IF NOT EXISTS user_outbox (
+    id           BIGSERIAL PRIMARY KEY,
+    txid         XID8 NOT NULL DEFAULT pg_current_xact_id(),
+    user_id      UUID NOT NULL,
+    event_type   VARCHAR(20) NOT NULL,
+    payload      TEXT,
+    created_at   TIMESTAMP NOT NULL DEFAULT now(),
+    published_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_outbox_txid_id ON user_outbox (txid, id);
+
+CREATE INDEX IF NOT EXISTS idx_user_outbox_unpublished ON user_outbox (id)
+    WHERE published_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_user_outbox_created_at ON user_outbox (created_at);
@@ -0,0 +1,3 @@
+-- Soft-delete tombstones: deleting a user stamps deleted_at (and bumps updated_at) so
+-- incremental sync clients see the deletion. Tombstones are purged after the retention window.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
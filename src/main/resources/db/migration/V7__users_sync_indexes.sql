@@ -0,0 +1,7 @@
+-- Watermark sync pages by (updated_at, id), tombstones included.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_updated_at_id ON users (updated_at, id);
+
+-- Email stays unique among live users only, so a deleted user's address can be registered again
+-- while the tombstone is retained. Replaces users_email_key (dropped in V8).
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS users_email_live_key ON users (email)
+    WHERE deleted_at IS NULL;
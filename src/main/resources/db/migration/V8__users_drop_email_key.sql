@@ -0,0 +1,2 @@
+-- Superseded by the partial unique index users_email_live_key (V7).
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
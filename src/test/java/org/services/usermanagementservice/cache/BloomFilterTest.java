@@ -0,0 +1,45 @@
+package org.services.usermanagementservice.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+  @Test
+  void addedKeys_areAlwaysReported() {
+    BloomFilter filter = new BloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("user" + i + "@test.com");
+    }
+
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(filter.mightContain("user" + i + "@test.com")).isTrue();
+    }
+  }
+
+  @Test
+  void falsePositiveRate_staysNearTarget() {
+    BloomFilter filter = new BloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("user" + i + "@test.com");
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (filter.mightContain("other" + i + "@test.com")) falsePositives++;
+    }
+
+    assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+  }
+
+  @Test
+  void sizedFromCapacityAndRate() {
+    BloomFilter filter = new BloomFilter(1_000_000, 0.01);
+
+    // ~9.6 bits per key and 7 hashes for 1%.
+    assertThat(filter.memoryBytes()).isBetween(1_190_000L, 1_210_000L);
+    assertThat(filter.hashCount()).isEqualTo(7);
+  }
+}
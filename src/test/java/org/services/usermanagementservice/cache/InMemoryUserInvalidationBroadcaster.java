@@ -0,0 +1,32 @@
+package org.services.usermanagementservice.cache;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/** Stand-in for a real bus: broadcasters sharing a group deliver to each other synchronously. */
+class InMemoryUserInvalidationBroadcaster implements UserInvalidationBroadcaster {
+
+  private final List<InMemoryUserInvalidationBroadcaster> group;
+  private final List<Consumer<UUID>> listeners = new CopyOnWriteArrayList<>();
+
+  InMemoryUserInvalidationBroadcaster(List<InMemoryUserInvalidationBroadcaster> group) {
+    this.group = group;
+    group.add(this);
+  }
+
+  @Override
+  public void publish(UUID userId) {
+    for (InMemoryUserInvalidationBroadcaster peer : group) {
+      if (peer != this) {
+        peer.listeners.forEach(listener -> listener.accept(userId));
+      }
+    }
+  }
+
+  @Override
+  public void subscribe(Consumer<UUID> listener) {
+    listeners.add(listener);
+  }
+}
@@ -0,0 +1,125 @@
+package org.services.usermanagementservice.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.entity.User;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class UserCacheInvalidatorTest {
+
+  private final UUID id = UUID.randomUUID();
+
+  private Instance first;
+  private Instance second;
+
+  /** One service instance: its own caches, joined to the shared broadcaster group. */
+  private record Instance(
+      UserCache userCache, Cache secondLevel, UserCacheInvalidator invalidator) {
+
+    static Instance join(List<InMemoryUserInvalidationBroadcaster> group) {
+      UserCache userCache = new UserCache(100, Duration.ofMinutes(5));
+      Cache secondLevel = mock(Cache.class);
+      EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+      when(entityManagerFactory.getCache()).thenReturn(secondLevel);
+      UserCacheInvalidator invalidator =
+          new UserCacheInvalidator(
+              userCache,
+              entityManagerFactory,
+              Optional.of(new InMemoryUserInvalidationBroadcaster(group)));
+      return new Instance(userCache, secondLevel, invalidator);
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    List<InMemoryUserInvalidationBroadcaster> group = new CopyOnWriteArrayList<>();
+    first = Instance.join(group);
+    second = Instance.join(group);
+    first.userCache().put(user());
+    second.userCache().put(user());
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private UserResponseDto user() {
+    return new UserResponseDto(id, "A", "a@test.com", "1", "USER", true, null, null, 0L);
+  }
+
+  @Test
+  void invalidate_evictsLocallyAndOnPeers() {
+    first.invalidator().invalidate(id);
+
+    assertThat(first.userCache().get(id)).isEmpty();
+    assertThat(second.userCache().get(id)).isEmpty();
+    verify(first.secondLevel()).evict(User.class, id);
+    verify(second.secondLevel()).evict(User.class, id);
+  }
+
+  @Test
+  void invalidate_keepsOtherUsersCached() {
+    UUID otherId = UUID.randomUUID();
+    first.userCache()
+        .put(new UserResponseDto(otherId, "B", "b@test.com", "2", "USER", true, null, null, 0L));
+
+    first.invalidator().invalidate(id);
+
+    assertThat(first.userCache().get(otherId)).isPresent();
+    verify(first.secondLevel()).evict(User.class, id);
+    verify(first.secondLevel(), never()).evict(User.class);
+    verify(first.secondLevel(), never()).evictAll();
+  }
+
+  @Test
+  void invalidate_insideTransaction_evictsLocallyAgainAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    first.invalidator().invalidate(id);
+    // A concurrent read re-caches the pre-commit row.
+    first.userCache().putLoaded(user(), first.userCache().loadTicket());
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    assertThat(first.userCache().get(id)).isEmpty();
+    verify(first.secondLevel(), times(2)).evict(User.class, id);
+  }
+
+  @Test
+  void invalidatePeers_leavesLocalSecondLevelCacheToHibernate() {
+    first.invalidator().invalidatePeers(id);
+
+    assertThat(first.userCache().get(id)).isPresent();
+    verifyNoInteractions(first.secondLevel());
+    assertThat(second.userCache().get(id)).isEmpty();
+    verify(second.secondLevel()).evict(User.class, id);
+  }
+
+  @Test
+  void insideTransaction_peersAreToldOnlyAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    first.invalidator().invalidatePeers(id);
+    assertThat(second.userCache().get(id)).isPresent();
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertThat(second.userCache().get(id)).isEmpty();
+  }
+}
@@ -0,0 +1,86 @@
+package org.services.usermanagementservice.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class UserCacheTest {
+
+  private final UserCache userCache = new UserCache(100, Duration.ofMinutes(5));
+  private final UUID id = UUID.randomUUID();
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private UserResponseDto user(String name, long version) {
+    return new UserResponseDto(id, name, "a@test.com", "1", "USER", true, null, null, version);
+  }
+
+  @Test
+  void putLoaded_afterConcurrentEviction_isDropped() {
+    long ticket = userCache.loadTicket();
+    // An update commits and evicts while the read is still loading version 1.
+    userCache.evict(id);
+
+    userCache.putLoaded(user("stale", 1), ticket);
+
+    assertThat(userCache.get(id)).isEmpty();
+    assertThat(userCache.getByEmail("a@test.com")).isEmpty();
+  }
+
+  @Test
+  void putLoaded_neverReplacesANewerVersion() {
+    long ticket = userCache.loadTicket();
+    userCache.put(user("fresh", 2));
+
+    userCache.putLoaded(user("stale", 1), ticket);
+
+    assertThat(userCache.get(id)).hasValueSatisfying(u -> assertThat(u.getVersion()).isEqualTo(2));
+  }
+
+  @Test
+  void get_returnsACopyCallersCannotCorrupt() {
+    UserResponseDto original = user("A", 1);
+    userCache.put(original);
+    original.setName("changed after put");
+
+    userCache.get(id).orElseThrow().setName("changed after get");
+
+    assertThat(userCache.get(id)).hasValueSatisfying(u -> assertThat(u.getName()).isEqualTo("A"));
+  }
+
+  @Test
+  void put_insideTransaction_storesOnlyOnCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    userCache.put(user("A", 1));
+    assertThat(userCache.get(id)).isEmpty();
+    assertThat(userCache.getByEmail("a@test.com")).isEmpty();
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertThat(userCache.get(id)).isPresent();
+  }
+
+  @Test
+  void put_insideRolledBackTransaction_leavesNothingCached() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    userCache.put(user("A", 1));
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    assertThat(userCache.get(id)).isEmpty();
+    assertThat(userCache.getByEmail("a@test.com")).isEmpty();
+  }
+}
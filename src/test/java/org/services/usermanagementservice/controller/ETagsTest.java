@@ -0,0 +1,37 @@
+package org.services.usermanagementservice.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+class ETagsTest {
+
+  private final UUID id = UUID.randomUUID();
+
+  private static UserResponseDto user(UUID id, long version) {
+    return new UserResponseDto(id, "A", "a@test.com", "1", "USER", true, null, null, version);
+  }
+
+  private static String tag(long total, UserResponseDto... users) {
+    return ETags.forPage(new PageImpl<>(List.of(users), PageRequest.of(0, 10), total));
+  }
+
+  @Test
+  void forPage_isStableForTheSameRows() {
+    assertThat(tag(1, user(id, 3))).isEqualTo(tag(1, user(id, 3)));
+  }
+
+  @Test
+  void forPage_changesWithAnyReturnedRowOrTheTotal() {
+    String original = tag(1, user(id, 3));
+
+    assertThat(tag(1, user(id, 4))).isNotEqualTo(original);
+    assertThat(tag(1, user(UUID.randomUUID(), 3))).isNotEqualTo(original);
+    assertThat(tag(2, user(id, 3))).isNotEqualTo(original);
+  }
+}
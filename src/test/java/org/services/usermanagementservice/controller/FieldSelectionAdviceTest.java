@@ -0,0 +1,77 @@
+package org.services.usermanagementservice.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.services.usermanagementservice.dto.CommonResponse;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class FieldSelectionAdviceTest {
+
+  private final ObjectMapper objectMapper =
+      Jackson2ObjectMapperBuilder.json()
+          .mixIn(UserResponseDto.class, FieldSelectionAdvice.UserFieldsMixIn.class)
+          .filters(FieldSelectionAdvice.ALL_FIELDS)
+          .build();
+
+  private final FieldSelectionAdvice advice = new FieldSelectionAdvice();
+
+  private static CommonResponse<UserResponseDto> body() {
+    LocalDateTime now = LocalDateTime.now();
+    return CommonResponse.success(
+        "ok",
+        new UserResponseDto(
+            UUID.randomUUID(), "Jane", "jane@test.com", "1", "USER", true, now, now, 0L));
+  }
+
+  private MappingJacksonValue apply(String fields) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    if (fields != null) {
+      request.setParameter("fields", fields);
+    }
+    MappingJacksonValue container = new MappingJacksonValue(body());
+    advice.beforeBodyWriteInternal(
+        container, MediaType.APPLICATION_JSON, null, new ServletServerHttpRequest(request), null);
+    return container;
+  }
+
+  private JsonNode write(MappingJacksonValue container) throws Exception {
+    String json =
+        container.getFilters() == null
+            ? objectMapper.writeValueAsString(container.getValue())
+            : objectMapper.writer(container.getFilters()).writeValueAsString(container.getValue());
+    return objectMapper.readTree(json).get("data");
+  }
+
+  @Test
+  void fields_keepsSelectedPropertiesAndId() throws Exception {
+    JsonNode user = write(apply("email, name"));
+
+    assertThat(user.fieldNames()).toIterable().containsExactlyInAnyOrder("id", "email", "name");
+  }
+
+  @Test
+  void noFields_serializesEverything() throws Exception {
+    JsonNode user = write(apply(null));
+
+    assertThat(user.has("phone")).isTrue();
+    assertThat(user.has("version")).isTrue();
+  }
+
+  @Test
+  void unknownField_isRejected() {
+    assertThatThrownBy(() -> apply("email,password"))
+        .isInstanceOf(InvalidRequestException.class)
+        .hasMessageContaining("password");
+  }
+}
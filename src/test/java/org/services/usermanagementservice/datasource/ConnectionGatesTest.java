@@ -0,0 +1,46 @@
+package org.services.usermanagementservice.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ConnectionGatesTest {
+
+  private static HikariDataSource pool(int size) {
+    HikariDataSource pool = new HikariDataSource();
+    pool.setMaximumPoolSize(size);
+    return pool;
+  }
+
+  @Test
+  void gate_sizesEachPoolSeparately() {
+    ConnectionGates gates = new ConnectionGates(Duration.ofMillis(10));
+
+    gates.gate(pool(10));
+    gates.gate(pool(4));
+
+    assertThat(gates.getGateCount()).isEqualTo(2);
+    assertThat(gates.getPermits()).isEqualTo(14);
+    assertThat(gates.getAvailable()).isEqualTo(14);
+  }
+
+  @Test
+  void onWait_receivesWaitsFromEveryGate() {
+    ConnectionGates gates = new ConnectionGates(Duration.ofMillis(10));
+    AtomicInteger waits = new AtomicInteger();
+    gates.onWait(nanos -> waits.incrementAndGet());
+
+    // Unconfigured pools fail the borrow; the permit is still taken, recorded and returned.
+    GatedDataSource primary = gates.gate(pool(1));
+    GatedDataSource replica = gates.gate(pool(1));
+    assertThatThrownBy(primary::getConnection).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(replica::getConnection).isInstanceOf(IllegalArgumentException.class);
+
+    assertThat(waits).hasValue(2);
+    assertThat(gates.getAcquired()).isEqualTo(2);
+    assertThat(gates.getAvailable()).isEqualTo(2);
+  }
+}
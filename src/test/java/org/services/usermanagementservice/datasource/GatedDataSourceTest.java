@@ -0,0 +1,89 @@
+package org.services.usermanagementservice.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GatedDataSourceTest {
+
+  @Mock private DataSource target;
+
+  @Test
+  void close_releasesPermitOnce() throws Exception {
+    ConnectionGate gate = new ConnectionGate(1, Duration.ofMillis(10));
+    Connection raw = mock(Connection.class);
+    when(target.getConnection()).thenReturn(raw);
+
+    GatedDataSource dataSource = new GatedDataSource(target, gate);
+
+    Connection first = dataSource.getConnection();
+    assertThat(gate.getAvailable()).isZero();
+
+    first.close();
+    first.close();
+
+    assertThat(gate.getAvailable()).isEqualTo(1);
+    verify(raw, times(1)).close();
+  }
+
+  @Test
+  void exhaustedGate_timesOut() throws Exception {
+    ConnectionGate gate = new ConnectionGate(1, Duration.ofMillis(10));
+    when(target.getConnection()).thenReturn(mock(Connection.class));
+
+    GatedDataSource dataSource = new GatedDataSource(target, gate);
+    dataSource.getConnection();
+
+    assertThatThrownBy(dataSource::getConnection)
+        .isInstanceOf(SQLTransientConnectionException.class);
+    assertThat(gate.getTimeouts()).isEqualTo(1);
+    assertThat(gate.getWaiting()).isZero();
+  }
+
+  @Test
+  void releasedPermit_goesToTheParkedWaiterFirst() throws Exception {
+    ConnectionGate gate = new ConnectionGate(1, Duration.ofMillis(200));
+    gate.acquire();
+    CompletableFuture<Void> waiter =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                gate.acquire();
+              } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+              }
+            });
+    while (!gate.hasQueuedThreads()) {
+      Thread.onSpinWait();
+    }
+
+    gate.release();
+
+    // A newcomer queues behind the waiter instead of taking the permit it was woken for.
+    assertThatThrownBy(gate::acquire).isInstanceOf(SQLTransientConnectionException.class);
+    waiter.get(1, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void failedBorrow_returnsPermit() throws Exception {
+    ConnectionGate gate = new ConnectionGate(1, Duration.ofMillis(10));
+    when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+    GatedDataSource dataSource = new GatedDataSource(target, gate);
+
+    assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class);
+    assertThat(gate.getAvailable()).isEqualTo(1);
+  }
+}
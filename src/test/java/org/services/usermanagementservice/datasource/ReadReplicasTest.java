@@ -0,0 +1,130 @@
+package org.services.usermanagementservice.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicasTest {
+
+  @Mock private DataSource primary;
+  @Mock private DataSource first;
+  @Mock private DataSource second;
+
+  private final Connection primaryConnection = mock(Connection.class);
+  private final Connection firstConnection = mock(Connection.class);
+  private final Connection secondConnection = mock(Connection.class);
+
+  private ReadReplicas replicas;
+
+  @BeforeEach
+  void setUp() {
+    replicas =
+        new ReadReplicas(
+            List.of(
+                new ReadReplicas.Replica("replica-1", first),
+                new ReadReplicas.Replica("replica-2", second)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    PrimaryPin.clear();
+  }
+
+  @Test
+  void getConnection_roundRobinsAcrossReplicas() throws Exception {
+    when(first.getConnection()).thenReturn(firstConnection);
+    when(second.getConnection()).thenReturn(secondConnection);
+
+    assertThat(replicas.getConnection(primary)).isSameAs(firstConnection);
+    assertThat(replicas.getConnection(primary)).isSameAs(secondConnection);
+    assertThat(replicas.getConnection(primary)).isSameAs(firstConnection);
+    assertThat(replicas.getReplicaReads()).isEqualTo(3);
+    verifyNoInteractions(primary);
+  }
+
+  @Test
+  void getConnection_failingReplicaLeavesRotation() throws Exception {
+    when(first.getConnection()).thenThrow(new SQLException("connection refused", "08001"));
+    when(second.getConnection()).thenReturn(secondConnection);
+
+    assertThat(replicas.getConnection(primary)).isSameAs(secondConnection);
+    assertThat(replicas.getConnection(primary)).isSameAs(secondConnection);
+    assertThat(replicas.getHealthyCount()).isEqualTo(1);
+    verify(first, times(1)).getConnection();
+  }
+
+  @Test
+  void getConnection_busyReplicaStaysInRotation() throws Exception {
+    when(first.getConnection())
+        .thenThrow(new SQLTransientConnectionException("request timed out after 1000ms"))
+        .thenReturn(firstConnection);
+    when(second.getConnection()).thenReturn(secondConnection);
+
+    assertThat(replicas.getConnection(primary)).isSameAs(secondConnection);
+    assertThat(replicas.getHealthyCount()).isEqualTo(2);
+    assertThat(replicas.getConnection(primary)).isSameAs(secondConnection);
+    assertThat(replicas.getConnection(primary)).isSameAs(firstConnection);
+  }
+
+  @Test
+  void checkHealth_busyReplicaKeepsItsState() throws Exception {
+    when(first.getConnection())
+        .thenThrow(new SQLTransientConnectionException("request timed out after 1000ms"));
+    when(second.getConnection()).thenReturn(secondConnection);
+    when(secondConnection.isValid(anyInt())).thenReturn(false);
+
+    replicas.checkHealth();
+
+    assertThat(replicas.getHealthyCount()).isEqualTo(1);
+  }
+
+  @Test
+  void getConnection_noHealthyReplica_fallsBackToPrimary() throws Exception {
+    when(first.getConnection()).thenThrow(new SQLException("down", "08001"));
+    when(second.getConnection()).thenThrow(new SQLException("down", "08001"));
+    when(primary.getConnection()).thenReturn(primaryConnection);
+
+    assertThat(replicas.getConnection(primary)).isSameAs(primaryConnection);
+    assertThat(replicas.getFallbackReads()).isEqualTo(1);
+    assertThat(replicas.getHealthyCount()).isZero();
+  }
+
+  @Test
+  void getConnection_pinnedClientReadsPrimary() throws Exception {
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    PrimaryPin.set();
+
+    assertThat(replicas.getConnection(primary)).isSameAs(primaryConnection);
+    assertThat(replicas.getPinnedReads()).isEqualTo(1);
+    verifyNoInteractions(first, second);
+  }
+
+  @Test
+  void checkHealth_restoresRecoveredReplica() throws Exception {
+    when(first.getConnection())
+        .thenThrow(new SQLException("down", "08001"))
+        .thenReturn(firstConnection);
+    when(firstConnection.isValid(anyInt())).thenReturn(true);
+    when(second.getConnection()).thenReturn(secondConnection);
+    when(secondConnection.isValid(anyInt())).thenReturn(true);
+
+    replicas.getConnection(primary);
+    assertThat(replicas.getHealthyCount()).isEqualTo(1);
+
+    replicas.checkHealth();
+
+    assertThat(replicas.getHealthyCount()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,69 @@
+package org.services.usermanagementservice.entity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+  @Test
+  void generate_setsVersionVariantAndTimestamp() {
+    long before = System.currentTimeMillis();
+    UUID id = UuidV7.generate();
+    long after = System.currentTimeMillis();
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    // Bursts of more than 4096 ids per millisecond (other tests) run the timestamp slightly ahead.
+    assertThat(UuidV7.timestamp(id)).isBetween(before, after + 1_000);
+  }
+
+  @Test
+  void generate_isStrictlyIncreasingInOneThread() {
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      ids.add(UuidV7.generate());
+    }
+
+    assertThat(ids).isSortedAccordingTo(UuidV7Test::compareUnsigned).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void generate_isUniqueAcrossThreads() throws Exception {
+    ConcurrentLinkedQueue<UUID> ids = new ConcurrentLinkedQueue<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      IntStream.range(0, 8)
+          .forEach(
+              t ->
+                  executor.submit(
+                      () -> {
+                        for (int i = 0; i < 5_000; i++) {
+                          ids.add(UuidV7.generate());
+                        }
+                      }));
+    }
+
+    assertThat(ids).hasSize(40_000).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void timestamp_rejectsOtherVersions() {
+    assertThatThrownBy(() -> UuidV7.timestamp(UUID.randomUUID()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  // Postgres orders uuid bytewise; UUID.compareTo compares signed longs.
+  private static int compareUnsigned(UUID a, UUID b) {
+    int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+    return msb != 0
+        ? msb
+        : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+  }
+}
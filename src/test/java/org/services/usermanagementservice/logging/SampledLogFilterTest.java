@@ -0,0 +1,53 @@
+package org.services.usermanagementservice.logging;
+
+import static org.assertj.core.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SampledLogFilterTest {
+
+  private final Logger logger = new LoggerContext().getLogger("test");
+
+  private List<FilterReply> decide(SampledLogFilter filter, Level level, String format, int n) {
+    List<FilterReply> replies = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      replies.add(filter.decide(LogMarkers.SAMPLED, logger, level, format, null, null));
+    }
+    return replies;
+  }
+
+  @Test
+  void sampledEvents_keepOneInRate_perMessage() {
+    SampledLogFilter filter = new SampledLogFilter();
+    filter.setRate(3);
+
+    assertThat(decide(filter, Level.INFO, "a={}", 6))
+        .containsExactly(
+            FilterReply.NEUTRAL,
+            FilterReply.DENY,
+            FilterReply.DENY,
+            FilterReply.NEUTRAL,
+            FilterReply.DENY,
+            FilterReply.DENY);
+    // A different message has its own counter.
+    assertThat(decide(filter, Level.INFO, "b={}", 1)).containsExactly(FilterReply.NEUTRAL);
+  }
+
+  @Test
+  void unmarkedAndWarnEvents_neverSampled() {
+    SampledLogFilter filter = new SampledLogFilter();
+    filter.setRate(100);
+
+    assertThat(decide(filter, Level.WARN, "a={}", 3)).containsOnly(FilterReply.NEUTRAL);
+    assertThat(filter.decide(null, logger, Level.INFO, "a={}", null, null))
+        .isEqualTo(FilterReply.NEUTRAL);
+    assertThat(filter.decide(LogMarkers.SAMPLED, logger, Level.INFO, null, null, null))
+        .isEqualTo(FilterReply.NEUTRAL);
+  }
+}
@@ -0,0 +1,59 @@
+package org.services.usermanagementservice.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.services.usermanagementservice.exception.UserNotFoundException;
+import org.services.usermanagementservice.service.UserService;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+class UserServiceMetricsAspectTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private UserService target;
+  private UserService proxy;
+
+  @BeforeEach
+  void setUp() {
+    target = mock(UserService.class);
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new UserServiceMetricsAspect(registry));
+    proxy = factory.getProxy();
+  }
+
+  private Timer timer(String operation, String outcome) {
+    return registry
+        .find(UserServiceMetricsAspect.METRIC)
+        .tags("operation", operation, "outcome", outcome)
+        .timer();
+  }
+
+  @Test
+  void successfulCall_recordedAsOk() {
+    when(target.getAllUsers()).thenReturn(List.of());
+
+    proxy.getAllUsers();
+    proxy.getAllUsers();
+
+    assertThat(timer("getAllUsers", "ok").count()).isEqualTo(2);
+  }
+
+  @Test
+  void failedCall_taggedWithOutcome_andRethrown() {
+    UUID id = UUID.randomUUID();
+    when(target.getUserById(id)).thenThrow(new UserNotFoundException("User not found"));
+
+    assertThatThrownBy(() -> proxy.getUserById(id)).isInstanceOf(UserNotFoundException.class);
+
+    assertThat(timer("getUserById", "not_found").count()).isEqualTo(1);
+    assertThat(timer("getUserById", "ok")).isNull();
+  }
+}
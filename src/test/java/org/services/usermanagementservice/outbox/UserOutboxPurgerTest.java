@@ -0,0 +1,48 @@
+package org.services.usermanagementservice.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserOutboxPurgerTest {
+
+  @Mock private UserOutboxRepository outboxRepository;
+  @Mock private UserOutboxRelay relay;
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void withRelay_keepsUnpublishedEventsAndReportsThem() {
+    when(outboxRepository.countUnpublishedBefore(any())).thenReturn(3L);
+    UserOutboxPurger purger =
+        new UserOutboxPurger(outboxRepository, Optional.of(relay), registry, Duration.ofDays(7));
+
+    purger.purge();
+
+    verify(outboxRepository).deletePublishedBefore(any());
+    verify(outboxRepository, never()).deleteCreatedBefore(any());
+    assertThat(registry.get("outbox.unpublished.stale").gauge().value()).isEqualTo(3);
+  }
+
+  @Test
+  void withoutRelay_purgesByAge() {
+    UserOutboxPurger purger =
+        new UserOutboxPurger(outboxRepository, Optional.empty(), registry, Duration.ofDays(7));
+
+    purger.purge();
+
+    verify(outboxRepository).deleteCreatedBefore(any());
+    verify(outboxRepository, never()).deletePublishedBefore(any());
+  }
+}
@@ -0,0 +1,69 @@
+package org.services.usermanagementservice.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.usermanagementservice.dto.UserChangeEventDto;
+import org.services.usermanagementservice.dto.UserChangeType;
+import org.services.usermanagementservice.repository.UserChangeRow;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UserOutboxRelayTest {
+
+  @Mock private UserOutboxRepository outboxRepository;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private static UserChangeRow row(long id) {
+    return new UserChangeRow(
+        id,
+        new UserChangeEventDto(
+            id, UUID.randomUUID(), UserChangeType.CREATED, "{}", LocalDateTime.now()));
+  }
+
+  @Test
+  void relay_drainsFullBatches_andMarksPublished() {
+    InMemoryChangeEventSink sink = new InMemoryChangeEventSink(10);
+    UserOutboxRelay relay =
+        new UserOutboxRelay(outboxRepository, sink, new TransactionTemplate(transactionManager), 2);
+
+    when(outboxRepository.lockUnpublished(2))
+        .thenReturn(List.of(row(1), row(2)))
+        .thenReturn(List.of(row(3)));
+
+    relay.relay();
+
+    assertThat(sink.getEvents()).extracting(UserChangeEventDto::getId).containsExactly(1L, 2L, 3L);
+    verify(outboxRepository).markPublished(eq(List.of(1L, 2L)), any());
+    verify(outboxRepository).markPublished(eq(List.of(3L)), any());
+  }
+
+  @Test
+  void relay_sinkFailure_leavesEventsUnpublished() {
+    ChangeEventSink failing =
+        events -> {
+          throw new IOException("webhook down");
+        };
+    UserOutboxRelay relay =
+        new UserOutboxRelay(
+            outboxRepository, failing, new TransactionTemplate(transactionManager), 2);
+
+    when(outboxRepository.lockUnpublished(2)).thenReturn(List.of(row(1)));
+
+    relay.relay();
+
+    verify(outboxRepository, never()).markPublished(anyCollection(), any());
+    verify(transactionManager).rollback(any());
+  }
+}
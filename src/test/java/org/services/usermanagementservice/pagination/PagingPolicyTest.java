@@ -0,0 +1,59 @@
+package org.services.usermanagementservice.pagination;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+class PagingPolicyTest {
+
+  private final PagingPolicy policy = new PagingPolicy(10, 100, 1000, 500);
+
+  @Test
+  void pageRequest_defaultsSizeAndAddsIdTieBreak() {
+    Pageable pageable = policy.pageRequest(2, null, "name", "desc");
+
+    assertThat(pageable.getPageNumber()).isEqualTo(2);
+    assertThat(pageable.getPageSize()).isEqualTo(10);
+    assertThat(pageable.getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "name", "id"));
+  }
+
+  @Test
+  void pageRequest_rejectsBadInputs() {
+    assertThatThrownBy(() -> policy.pageRequest(-1, 10, "createdAt", "asc"))
+        .isInstanceOf(InvalidRequestException.class);
+    assertThatThrownBy(() -> policy.pageRequest(0, 0, "createdAt", "asc"))
+        .isInstanceOf(InvalidRequestException.class);
+    assertThatThrownBy(() -> policy.pageRequest(0, 10, "password", "asc"))
+        .isInstanceOf(InvalidRequestException.class);
+    assertThatThrownBy(() -> policy.pageRequest(0, 10, "createdAt", "sideways"))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+
+  @Test
+  void pageRequest_rejectsDeepOffsets() {
+    assertThat(policy.pageRequest(99, 10, "createdAt", "asc").getOffset()).isEqualTo(990);
+    assertThatThrownBy(() -> policy.pageRequest(100, 10, "createdAt", "asc"))
+        .isInstanceOf(InvalidRequestException.class)
+        .hasMessageContaining("cursor");
+  }
+
+  @Test
+  void oversizedFirstPage_redirectsToKeysetSearch() {
+    assertThat(policy.oversizedPageRedirect(0, 300, "email", "DESC"))
+        .contains(URI.create("/api/users/search?sort=email&direction=desc&limit=300"));
+    assertThat(policy.oversizedPageRedirect(0, 1_000_000, "createdAt", "asc"))
+        .contains(URI.create("/api/users/export"));
+    assertThat(policy.oversizedPageRedirect(0, 100, "createdAt", "asc")).isEmpty();
+  }
+
+  @Test
+  void oversizedLaterPage_isRejected() {
+    assertThat(policy.oversizedPageRedirect(3, 300, "createdAt", "asc")).isEmpty();
+    assertThatThrownBy(() -> policy.pageRequest(3, 300, "createdAt", "asc"))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+}
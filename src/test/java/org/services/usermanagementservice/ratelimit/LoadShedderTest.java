@@ -0,0 +1,84 @@
+package org.services.usermanagementservice.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.services.usermanagementservice.datasource.ConnectionGate;
+
+class LoadShedderTest {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  private LoadShedder shedder;
+
+  @BeforeEach
+  void setUp() {
+    // What management.metrics.distribution.percentiles does in the application.
+    registry
+        .config()
+        .meterFilter(
+            new MeterFilter() {
+              @Override
+              public DistributionStatisticConfig configure(
+                  Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                    .percentiles(0.99)
+                    .build()
+                    .merge(config);
+              }
+            });
+    shedder =
+        new LoadShedder(
+            registry, Duration.ofMillis(100), Duration.ofSeconds(10), Duration.ofSeconds(10));
+  }
+
+  @Test
+  void readsHikariAcquireTimer() {
+    HikariConfig config = new HikariConfig();
+    // Nothing listens here, so every borrow waits out the connection timeout.
+    config.setJdbcUrl("jdbc:postgresql://127.0.0.1:1/unreachable");
+    config.setConnectionTimeout(250);
+    config.setInitializationFailTimeout(-1);
+    config.setMetricRegistry(registry);
+
+    try (HikariDataSource pool = new HikariDataSource(config)) {
+      assertThatThrownBy(pool::getConnection).isInstanceOf(SQLException.class);
+    }
+    shedder.evaluate();
+
+    assertThat(registry.find("hikaricp.connections.acquire").timer()).isNotNull();
+    assertThat(shedder.getLevel()).isEqualTo(LoadShedder.Level.SHED_ALL);
+  }
+
+  @Test
+  void readsConnectionGateWait() throws SQLException {
+    ConnectionGate gate = new ConnectionGate(1, Duration.ofMillis(250));
+    Timer wait = registry.timer("jdbc.gate.wait");
+    gate.onWait(nanos -> wait.record(nanos, TimeUnit.NANOSECONDS));
+
+    gate.acquire();
+    assertThatThrownBy(gate::acquire).isInstanceOf(SQLException.class);
+    shedder.evaluate();
+
+    assertThat(shedder.getLevel()).isEqualTo(LoadShedder.Level.SHED_ALL);
+  }
+
+  @Test
+  void idlePool_staysNormal() {
+    shedder.evaluate();
+
+    assertThat(shedder.getLevel()).isEqualTo(LoadShedder.Level.NORMAL);
+  }
+}
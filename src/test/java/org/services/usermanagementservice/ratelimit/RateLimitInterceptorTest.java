@@ -0,0 +1,125 @@
+package org.services.usermanagementservice.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.usermanagementservice.exception.RateLimitExceededException;
+import org.services.usermanagementservice.exception.ServiceOverloadedException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitInterceptorTest {
+
+  @Mock private ClientRateLimiter rateLimiter;
+  @Mock private LoadShedder loadShedder;
+  @Mock private HandlerMethod handler;
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  private RateLimitInterceptor interceptor;
+
+  @BeforeEach
+  void setUp() {
+    interceptor =
+        new RateLimitInterceptor(
+            rateLimiter, loadShedder, registry, 200, Duration.ofSeconds(2));
+  }
+
+  private static MockHttpServletRequest request(String pattern) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+    request.setRemoteAddr("203.0.113.7");
+    return request;
+  }
+
+  private double rejected(String reason, String cost) {
+    return registry.counter("api.requests.rejected", "reason", reason, "cost", cost).count();
+  }
+
+  @Test
+  void classify_allAndLargePagesAreExpensive() {
+    MockHttpServletRequest largePage = request("/api/users");
+    largePage.setParameter("size", "500");
+
+    assertThat(interceptor.classify(request("/api/users/all"))).isEqualTo(CostClass.EXPENSIVE);
+    assertThat(interceptor.classify(largePage)).isEqualTo(CostClass.EXPENSIVE);
+    assertThat(interceptor.classify(request("/api/users/{id}"))).isEqualTo(CostClass.STANDARD);
+  }
+
+  @Test
+  void clientOf_ignoresCallerSuppliedHeaders() {
+    MockHttpServletRequest first = request("/api/users/{id}");
+    first.addHeader("X-Client-Id", "fresh-1");
+    MockHttpServletRequest second = request("/api/users/{id}");
+    second.addHeader("X-Client-Id", "fresh-2");
+
+    assertThat(interceptor.clientOf(first))
+        .isEqualTo(interceptor.clientOf(second))
+        .isEqualTo("address:203.0.113.7");
+  }
+
+  @Test
+  void clientOf_prefersAuthenticatedPrincipal() {
+    MockHttpServletRequest request = request("/api/users/{id}");
+    request.setUserPrincipal(() -> "reporting-job");
+
+    assertThat(interceptor.clientOf(request)).isEqualTo("principal:reporting-job");
+  }
+
+  @Test
+  void emptyBucket_isRateLimitedWithRetryAfter() {
+    when(loadShedder.getLevel()).thenReturn(LoadShedder.Level.NORMAL);
+    when(rateLimiter.tryAcquire("address:203.0.113.7", CostClass.EXPENSIVE))
+        .thenReturn(Duration.ofMillis(1500).toNanos());
+
+    assertThatThrownBy(
+            () ->
+                interceptor.preHandle(
+                    request("/api/users/all"), new MockHttpServletResponse(), handler))
+        .isInstanceOfSatisfying(
+            RateLimitExceededException.class,
+            ex -> assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofMillis(1500)));
+    assertThat(rejected("rate_limited", "expensive")).isEqualTo(1);
+  }
+
+  @Test
+  void shedExpensive_rejectsOnlyExpensiveRequests() throws Exception {
+    when(loadShedder.getLevel()).thenReturn(LoadShedder.Level.SHED_EXPENSIVE);
+    when(rateLimiter.tryAcquire("address:203.0.113.7", CostClass.STANDARD)).thenReturn(0L);
+
+    assertThatThrownBy(
+            () ->
+                interceptor.preHandle(
+                    request("/api/users/all"), new MockHttpServletResponse(), handler))
+        .isInstanceOf(ServiceOverloadedException.class);
+    assertThat(
+            interceptor.preHandle(
+                request("/api/users/{id}"), new MockHttpServletResponse(), handler))
+        .isTrue();
+    assertThat(rejected("overloaded", "expensive")).isEqualTo(1);
+  }
+
+  @Test
+  void admittedStandardRequest_feedsLatencySignal() throws Exception {
+    when(loadShedder.getLevel()).thenReturn(LoadShedder.Level.NORMAL);
+    when(rateLimiter.tryAcquire("address:203.0.113.7", CostClass.STANDARD)).thenReturn(0L);
+    MockHttpServletRequest request = request("/api/users/{id}");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    interceptor.preHandle(request, response, handler);
+    interceptor.afterCompletion(request, response, handler, null);
+
+    verify(loadShedder).record(anyLong());
+  }
+}
@@ -0,0 +1,40 @@
+package org.services.usermanagementservice.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  void idleBucket_allowsBurstThenRejects() {
+    TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+    assertThat(bucket.tryAcquire(0)).isZero();
+    assertThat(bucket.tryAcquire(0)).isZero();
+    assertThat(bucket.tryAcquire(0)).isZero();
+    assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND / 10);
+  }
+
+  @Test
+  void refillsAtConfiguredRate() {
+    TokenBucket bucket = new TokenBucket(10, 1, 0);
+
+    assertThat(bucket.tryAcquire(0)).isZero();
+    assertThat(bucket.tryAcquire(SECOND / 20)).isEqualTo(SECOND / 20);
+    assertThat(bucket.tryAcquire(SECOND / 10)).isZero();
+  }
+
+  @Test
+  void longIdle_doesNotAccumulateBeyondBurst() {
+    TokenBucket bucket = new TokenBucket(10, 2, 0);
+
+    long later = 60 * SECOND;
+    assertThat(bucket.tryAcquire(later)).isZero();
+    assertThat(bucket.tryAcquire(later)).isZero();
+    assertThat(bucket.tryAcquire(later)).isPositive();
+  }
+}
@@ -0,0 +1,202 @@
+package org.services.usermanagementservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validation;
+import java.time.Duration;
+import java.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.usermanagementservice.cache.RegisteredEmails;
+import org.services.usermanagementservice.cache.UserCache;
+import org.services.usermanagementservice.cache.UserCacheInvalidator;
+import org.services.usermanagementservice.dto.BulkItemResult;
+import org.services.usermanagementservice.dto.BulkItemStatus;
+import org.services.usermanagementservice.dto.BulkOperationResponse;
+import org.services.usermanagementservice.dto.BulkUpdateItemDto;
+import org.services.usermanagementservice.dto.UserRequestDto;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.services.usermanagementservice.dto.UserChangeType;
+import org.services.usermanagementservice.repository.UserJdbcRepository;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
+import org.services.usermanagementservice.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkServiceTest {
+
+  @Mock private UserJdbcRepository userJdbcRepository;
+
+  @Mock private UserOutboxRepository outboxRepository;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  @Mock private UserRepository userRepository;
+
+  private final UserCache userCache = new UserCache(100, Duration.ofMinutes(5));
+
+  private RegisteredEmails registeredEmails;
+
+  private UserBulkService bulkService;
+
+  @BeforeEach
+  void setUp() {
+    registeredEmails =
+        new RegisteredEmails(
+            userRepository, userJdbcRepository, new SimpleMeterRegistry(), 0.01, 1000);
+    bulkService =
+        new UserBulkService(
+            userJdbcRepository,
+            outboxRepository,
+            registeredEmails,
+            new UserCacheInvalidator(
+                userCache, mock(EntityManagerFactory.class, RETURNS_DEEP_STUBS), Optional.empty()),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new TransactionTemplate(transactionManager),
+            2,
+            10);
+  }
+
+  private static UserRequestDto request(String email) {
+    return new UserRequestDto("Name", email, "1", "USER", true);
+  }
+
+  // ---------------------------------------------------------
+  // BULK CREATE
+  // ---------------------------------------------------------
+  @Test
+  void createUsers_reportsPerItemOutcome() {
+
+    List<UserRequestDto> requests =
+        List.of(
+            request("a@test.com"),
+            request("not-an-email"),
+            request("a@test.com"),
+            request("taken@test.com"),
+            request("b@test.com"));
+
+    when(userJdbcRepository.findEmailOwners(anyCollection()))
+        .thenReturn(Map.of("taken@test.com", UUID.randomUUID()))
+        .thenReturn(Map.of());
+    when(userJdbcRepository.batchInsert(anyList(), any())).thenReturn(new int[] {1}, new int[] {0});
+
+    BulkOperationResponse result = bulkService.createUsers(requests);
+
+    assertThat(result.getRequested()).isEqualTo(5);
+    assertThat(result.getSucceeded()).isEqualTo(1);
+    assertThat(result.getItems())
+        .extracting(BulkItemResult::getStatus)
+        .containsExactly(
+            BulkItemStatus.CREATED,
+            BulkItemStatus.INVALID,
+            BulkItemStatus.DUPLICATE,
+            BulkItemStatus.DUPLICATE,
+            BulkItemStatus.DUPLICATE);
+    assertThat(result.getItems().get(0).getId()).isNotNull();
+    verify(outboxRepository)
+        .appendSnapshots(UserChangeType.CREATED, List.of(result.getItems().get(0).getId()));
+  }
+
+  @Test
+  void createUsers_newEmailsRuledOutByFilter_skipOwnerLookup() {
+
+    when(userRepository.estimateCount()).thenReturn(0L);
+    when(userJdbcRepository.forEachLiveEmail(any())).thenReturn(0L);
+    registeredEmails.rebuild();
+    when(userJdbcRepository.batchInsert(anyList(), any())).thenReturn(new int[] {1, 1});
+
+    BulkOperationResponse result =
+        bulkService.createUsers(List.of(request("a@test.com"), request("b@test.com")));
+
+    assertThat(result.getSucceeded()).isEqualTo(2);
+    verify(userJdbcRepository).findEmailOwners(List.of());
+    assertThat(registeredEmails.mightExist("a@test.com")).isTrue();
+  }
+
+  @Test
+  void createUsers_failedBatch_retriedRowByRow() {
+
+    when(userJdbcRepository.findEmailOwners(anyCollection())).thenReturn(Map.of());
+    when(userJdbcRepository.batchInsert(anyList(), any()))
+        .thenThrow(new DataIntegrityViolationException("boom"))
+        .thenReturn(new int[] {1})
+        .thenThrow(new DataIntegrityViolationException("bad row"));
+
+    BulkOperationResponse result =
+        bulkService.createUsers(List.of(request("a@test.com"), request("b@test.com")));
+
+    assertThat(result.getItems())
+        .extracting(BulkItemResult::getStatus)
+        .containsExactly(BulkItemStatus.CREATED, BulkItemStatus.FAILED);
+    verify(userJdbcRepository, times(3)).batchInsert(anyList(), any());
+  }
+
+  @Test
+  void createUsers_tooManyItems() {
+    List<UserRequestDto> requests = Collections.nCopies(11, request("a@test.com"));
+
+    assertThatThrownBy(() -> bulkService.createUsers(requests))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+
+  // ---------------------------------------------------------
+  // BULK UPDATE
+  // ---------------------------------------------------------
+  @Test
+  void updateUsers_emailOwnedByAnotherUser_isDuplicate() {
+
+    UUID id = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    userCache.put(
+        new UserResponseDto(id, "Old", "old@test.com", "1", "USER", true, null, null, 0L));
+
+    when(userJdbcRepository.findEmailOwners(anyCollection()))
+        .thenReturn(Map.of("mine@test.com", id, "theirs@test.com", other));
+    when(userJdbcRepository.batchUpdate(anyList(), any())).thenReturn(new int[] {1});
+
+    BulkOperationResponse result =
+        bulkService.updateUsers(
+            List.of(
+                new BulkUpdateItemDto(id, request("mine@test.com")),
+                new BulkUpdateItemDto(UUID.randomUUID(), request("theirs@test.com"))));
+
+    assertThat(result.getItems())
+        .extracting(BulkItemResult::getStatus)
+        .containsExactly(BulkItemStatus.UPDATED, BulkItemStatus.DUPLICATE);
+    assertThat(userCache.get(id)).isEmpty();
+  }
+
+  // ---------------------------------------------------------
+  // BULK DELETE
+  // ---------------------------------------------------------
+  @Test
+  void deleteUsers_missingRowsReportedNotFound() {
+
+    UUID a = UUID.randomUUID();
+    UUID b = UUID.randomUUID();
+
+    when(userJdbcRepository.batchDelete(eq(List.of(a, b)), any())).thenReturn(new int[] {1, 0});
+
+    BulkOperationResponse result = bulkService.deleteUsers(Arrays.asList(a, b, a, null));
+
+    assertThat(result.getItems())
+        .extracting(BulkItemResult::getStatus)
+        .containsExactly(
+            BulkItemStatus.DELETED,
+            BulkItemStatus.NOT_FOUND,
+            BulkItemStatus.INVALID,
+            BulkItemStatus.INVALID);
+    assertThat(result.getSucceeded()).isEqualTo(1);
+    verify(outboxRepository).appendDeletes(List.of(a));
+  }
+}
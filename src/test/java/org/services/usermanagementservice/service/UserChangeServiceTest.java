@@ -0,0 +1,63 @@
+package org.services.usermanagementservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.usermanagementservice.dto.CursorPageResponse;
+import org.services.usermanagementservice.dto.UserChangeEventDto;
+import org.services.usermanagementservice.dto.UserChangeType;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.services.usermanagementservice.pagination.ChangeCursor;
+import org.services.usermanagementservice.repository.UserChangeRow;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserChangeServiceTest {
+
+  @Mock private UserOutboxRepository outboxRepository;
+
+  @InjectMocks private UserChangeService userChangeService;
+
+  private static UserChangeRow row(long txid, long id) {
+    return new UserChangeRow(
+        txid,
+        new UserChangeEventDto(
+            id, UUID.randomUUID(), UserChangeType.UPDATED, "{}", LocalDateTime.now()));
+  }
+
+  @Test
+  void getChanges_fromStart_returnsCursorOfLastEvent() {
+    when(outboxRepository.findChangesAfter(0, 0, 3))
+        .thenReturn(List.of(row(10, 1), row(12, 2), row(12, 3)));
+
+    CursorPageResponse<UserChangeEventDto> result = userChangeService.getChanges(null, 2);
+
+    assertThat(result.getItems()).extracting(UserChangeEventDto::getId).containsExactly(1L, 2L);
+    assertThat(result.isHasNext()).isTrue();
+    assertThat(ChangeCursor.decode(result.getNextCursor())).isEqualTo(new ChangeCursor(12, 2));
+  }
+
+  @Test
+  void getChanges_caughtUp_keepsPosition() {
+    String since = new ChangeCursor(12, 3).encode();
+    when(outboxRepository.findChangesAfter(12, 3, 11)).thenReturn(List.of());
+
+    CursorPageResponse<UserChangeEventDto> result = userChangeService.getChanges(since, 10);
+
+    assertThat(result.getItems()).isEmpty();
+    assertThat(result.isHasNext()).isFalse();
+    assertThat(result.getNextCursor()).isEqualTo(since);
+  }
+
+  @Test
+  void getChanges_invalidCursor() {
+    assertThatThrownBy(() -> userChangeService.getChanges("bogus", 10))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+}
@@ -0,0 +1,111 @@
+package org.services.usermanagementservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.usermanagementservice.controller.FieldSelectionAdvice;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.services.usermanagementservice.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceTest {
+
+  @Mock private UserRepository userRepository;
+
+  private UserExportService exportService;
+
+  @BeforeEach
+  void setUp() {
+    ObjectMapper objectMapper =
+        new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    exportService = new UserExportService(userRepository, objectMapper);
+  }
+
+  private UserResponseDto user(String name) {
+    LocalDateTime now = LocalDateTime.now();
+    return new UserResponseDto(
+        UUID.randomUUID(), name, name + "@test.com", "123", "USER", true, now, now, 0L);
+  }
+
+  @Test
+  void export_ndjson_writesOneLinePerUser() throws Exception {
+    when(userRepository.streamAll()).thenReturn(Stream.of(user("a"), user("b")));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long count = exportService.export(UserExportService.Format.NDJSON, null, out);
+
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(count).isEqualTo(2);
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("{").contains("a@test.com");
+    assertThat(lines[1]).startsWith("{").contains("b@test.com");
+  }
+
+  @Test
+  void export_json_writesSingleArray() throws Exception {
+    when(userRepository.streamAll()).thenReturn(Stream.of(user("a"), user("b")));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    exportService.export(UserExportService.Format.JSON, null, out);
+
+    List<?> parsed = new ObjectMapper().readValue(out.toByteArray(), List.class);
+    assertThat(parsed).hasSize(2);
+  }
+
+  @Test
+  void export_emptyTable_writesEmptyArray() throws Exception {
+    when(userRepository.streamAll()).thenReturn(Stream.empty());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    exportService.export(UserExportService.Format.JSON, null, out);
+
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[]");
+  }
+
+  @Test
+  void export_ndjson_appliesFieldFilter() throws Exception {
+    when(userRepository.streamAll()).thenReturn(Stream.of(user("a")));
+    ObjectMapper objectMapper =
+        new ObjectMapper()
+            .findAndRegisterModules()
+            .addMixIn(UserResponseDto.class, FieldSelectionAdvice.UserFieldsMixIn.class);
+    FilterProvider fields =
+        new SimpleFilterProvider()
+            .addFilter(
+                FieldSelectionAdvice.USER_FIELDS_FILTER,
+                SimpleBeanPropertyFilter.filterOutAllExcept("id", "email"));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new UserExportService(userRepository, objectMapper)
+        .export(UserExportService.Format.NDJSON, fields, out);
+
+    Map<?, ?> line = objectMapper.readValue(out.toByteArray(), Map.class);
+    assertThat(line.keySet()).containsExactlyInAnyOrder("id", "email");
+  }
+
+  @Test
+  void format_unknownValue_rejected() {
+    assertThat(UserExportService.Format.fromParameter("ndjson"))
+        .isEqualTo(UserExportService.Format.NDJSON);
+    assertThatThrownBy(() -> UserExportService.Format.fromParameter("xml"))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+}
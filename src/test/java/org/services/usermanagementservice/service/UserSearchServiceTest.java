@@ -0,0 +1,81 @@
+package org.services.usermanagementservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.usermanagementservice.dto.CursorPageResponse;
+import org.services.usermanagementservice.dto.UserResponseDto;
+import org.services.usermanagementservice.dto.UserSearchCriteria;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.services.usermanagementservice.pagination.UserSortField;
+import org.services.usermanagementservice.repository.UserSearchRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchServiceTest {
+
+  @Mock private UserSearchRepository userSearchRepository;
+
+  @InjectMocks private UserSearchService userSearchService;
+
+  private static UserResponseDto user(String name) {
+    LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+    return new UserResponseDto(
+        UUID.randomUUID(), name, name + "@test.com", null, "USER", true, now, now, 0L);
+  }
+
+  @Test
+  void searchUsers_cursorContinuesFromLastRow() {
+
+    UserSearchCriteria criteria = new UserSearchCriteria("USER", true, "jo", null);
+    UserResponseDto a = user("joan");
+    UserResponseDto b = user("john");
+
+    when(userSearchRepository.search(criteria, UserSortField.NAME, false, null, null, 2))
+        .thenReturn(List.of(a, b));
+
+    CursorPageResponse<UserResponseDto> first =
+        userSearchService.searchUsers(criteria, UserSortField.NAME, false, null, 1);
+
+    assertThat(first.getItems()).containsExactly(a);
+    assertThat(first.isHasNext()).isTrue();
+
+    when(userSearchRepository.search(criteria, UserSortField.NAME, false, "joan", a.getId(), 2))
+        .thenReturn(List.of(b));
+
+    CursorPageResponse<UserResponseDto> second =
+        userSearchService.searchUsers(
+            criteria, UserSortField.NAME, false, first.getNextCursor(), 1);
+
+    assertThat(second.getItems()).containsExactly(b);
+    assertThat(second.isHasNext()).isFalse();
+    assertThat(second.getNextCursor()).isNull();
+  }
+
+  @Test
+  void searchUsers_cursorFromOtherSort_rejected() {
+
+    UserSearchCriteria criteria = new UserSearchCriteria();
+    String cursor = UserSortField.NAME.cursorAfter(user("joan")).encode();
+
+    assertThatThrownBy(
+            () ->
+                userSearchService.searchUsers(
+                    criteria, UserSortField.CREATED_AT, false, cursor, 10))
+        .isInstanceOf(InvalidRequestException.class);
+    verify(userSearchRepository, never()).search(any(), any(), anyBoolean(), any(), any(), anyInt());
+  }
+
+  @Test
+  void sortField_fromParameter() {
+    assertThat(UserSortField.fromParameter("createdAt")).isEqualTo(UserSortField.CREATED_AT);
+    assertThatThrownBy(() -> UserSortField.fromParameter("phone"))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+}
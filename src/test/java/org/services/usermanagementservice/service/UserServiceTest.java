@@ -3,17 +3,32 @@ package org.services.usermanagementservice.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.usermanagementservice.cache.RegisteredEmails;
+import org.services.usermanagementservice.cache.UserCache;
+import org.services.usermanagementservice.cache.UserCacheInvalidator;
+import org.services.usermanagementservice.dto.CursorPageResponse;
+import org.services.usermanagementservice.dto.UserChangeType;
+import org.services.usermanagementservice.dto.UserPatchDto;
 import org.services.usermanagementservice.dto.UserRequestDto;
 import org.services.usermanagementservice.dto.UserResponseDto;
 import org.services.usermanagementservice.entity.User;
 import org.services.usermanagementservice.exception.DuplicateEmailException;
+import org.services.usermanagementservice.exception.InvalidRequestException;
 import org.services.usermanagementservice.exception.UserNotFoundException;
+import org.services.usermanagementservice.exception.VersionConflictException;
+import org.services.usermanagementservice.pagination.KeysetCursor;
+import org.services.usermanagementservice.repository.UserOutboxRepository;
 import org.services.usermanagementservice.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,9 +36,29 @@ class UserServiceTest {
 
   @Mock private UserRepository userRepository;
 
+  @Mock private UserOutboxRepository outboxRepository;
+
+  @Mock private RegisteredEmails registeredEmails;
+
+  @Mock private UserCacheInvalidator cacheInvalidator;
+
+  @Spy private UserCache userCache = new UserCache(100, Duration.ofMinutes(5));
 
   @InjectMocks private UserService userService;
 
+  private static DataIntegrityViolationException emailUniqueViolation() {
+    SQLException sql =
+        new SQLException("duplicate key value violates unique constraint", "23505");
+    return new DataIntegrityViolationException(
+        "could not execute statement",
+        new ConstraintViolationException("duplicate key", sql, "users_email_key"));
+  }
+
+  private static UserResponseDto response(UUID id, String email) {
+    LocalDateTime now = LocalDateTime.now();
+    return new UserResponseDto(id, "A", email, "1", "USER", true, now, now, 0L);
+  }
+
   // ---------------------------------------------------------
   // CREATE USER
   // ---------------------------------------------------------
@@ -35,25 +70,70 @@ class UserServiceTest {
     User saved = new User("John", "john@test.com", "12345", "ADMIN");
     saved.setId(UUID.randomUUID());
 
-    when(userRepository.findByEmail(dto.getEmail())).thenReturn(Optional.empty());
-
-    when(userRepository.save(any(User.class))).thenReturn(saved);
+    when(userRepository.saveAndFlush(any(User.class))).thenReturn(saved);
 
     UserResponseDto result = userService.createUser(dto);
 
     assertThat(result.getEmail()).isEqualTo(dto.getEmail());
 
-    verify(userRepository).save(any(User.class));
+    verify(userRepository).saveAndFlush(any(User.class));
+    verify(userRepository, never()).findByEmail(any());
+    verify(outboxRepository).appendSnapshots(UserChangeType.CREATED, List.of(saved.getId()));
   }
 
   @Test
   void createUser_duplicateEmail_throwsException() {
     UserRequestDto dto = new UserRequestDto("John", "john@test.com", "12345", "ADMIN", true);
 
-    when(userRepository.findByEmail(dto.getEmail())).thenReturn(Optional.of(new User()));
+    when(userRepository.saveAndFlush(any(User.class))).thenThrow(emailUniqueViolation());
 
     assertThatThrownBy(() -> userService.createUser(dto))
         .isInstanceOf(DuplicateEmailException.class);
+    verifyNoInteractions(outboxRepository);
+  }
+
+  @Test
+  void createUser_storesNormalizedEmail() {
+    UserRequestDto dto = new UserRequestDto("John", " John@Test.COM ", "12345", "ADMIN", true);
+
+    when(userRepository.saveAndFlush(any(User.class)))
+        .thenAnswer(
+            inv -> {
+              User user = inv.getArgument(0);
+              user.setId(UUID.randomUUID());
+              return user;
+            });
+
+    UserResponseDto result = userService.createUser(dto);
+
+    assertThat(result.getEmail()).isEqualTo("john@test.com");
+    assertThat(userCache.getByEmail("JOHN@test.com")).contains(result);
+  }
+
+  @Test
+  void createUser_emailCheckViolation_isNotReportedAsDuplicate() {
+    UserRequestDto dto = new UserRequestDto("John", "john@test.com", "12345", "ADMIN", true);
+    SQLException sql = new SQLException("violates check constraint", "23514");
+
+    when(userRepository.saveAndFlush(any(User.class)))
+        .thenThrow(
+            new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("check", sql, "users_email_lowercase")));
+
+    assertThatThrownBy(() -> userService.createUser(dto))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
+  @Test
+  void createUser_otherConstraintViolation_propagates() {
+    UserRequestDto dto = new UserRequestDto("John", "john@test.com", "12345", "ADMIN", true);
+
+    when(userRepository.saveAndFlush(any(User.class)))
+        .thenThrow(new DataIntegrityViolationException("null value in column \"role\""));
+
+    assertThatThrownBy(() -> userService.createUser(dto))
+        .isInstanceOf(DataIntegrityViolationException.class);
   }
 
   // ---------------------------------------------------------
@@ -62,25 +142,50 @@ class UserServiceTest {
   @Test
   void getUserById_success() {
     UUID id = UUID.randomUUID();
-    User user = new User("A", "a@test.com", "123", "ADMIN");
-    user.setId(id);
 
-    when(userRepository.findById(id)).thenReturn(Optional.of(user));
+    when(userRepository.findResponseById(id)).thenReturn(Optional.of(response(id, "a@test.com")));
 
     UserResponseDto dto = userService.getUserById(id);
 
     assertThat(dto.getId()).isEqualTo(id);
+    verify(userRepository, never()).findById(any());
   }
 
   @Test
   void getUserById_notFound() {
     UUID id = UUID.randomUUID();
 
-    when(userRepository.findById(id)).thenReturn(Optional.empty());
+    when(userRepository.findResponseById(id)).thenReturn(Optional.empty());
 
     assertThatThrownBy(() -> userService.getUserById(id)).isInstanceOf(UserNotFoundException.class);
   }
 
+  @Test
+  void getUserById_cacheHit_skipsRepository() {
+    UUID id = UUID.randomUUID();
+
+    when(userRepository.findResponseById(id)).thenReturn(Optional.of(response(id, "a@test.com")));
+
+    userService.getUserById(id);
+    UserResponseDto second = userService.getUserById(id);
+
+    assertThat(second.getId()).isEqualTo(id);
+    verify(userRepository, times(1)).findResponseById(id);
+  }
+
+  @Test
+  void createUser_cachedEmail_rejectedWithoutQuery() {
+    UUID id = UUID.randomUUID();
+    userCache.put(
+        new UserResponseDto(id, "John", "john@test.com", "1", "ADMIN", true, null, null, 0L));
+
+    UserRequestDto dto = new UserRequestDto("John", "john@test.com", "12345", "ADMIN", true);
+
+    assertThatThrownBy(() -> userService.createUser(dto))
+        .isInstanceOf(DuplicateEmailException.class);
+    verify(userRepository, never()).saveAndFlush(any());
+  }
+
   // ---------------------------------------------------------
   // UPDATE USER
   // ---------------------------------------------------------
@@ -96,13 +201,16 @@ class UserServiceTest {
 
     when(userRepository.findById(id)).thenReturn(Optional.of(existing));
 
-    when(userRepository.findByEmail(dto.getEmail())).thenReturn(Optional.empty());
+    when(userRepository.saveAndFlush(any(User.class))).thenReturn(existing);
 
-    when(userRepository.save(any(User.class))).thenReturn(existing);
+    userCache.put(
+        new UserResponseDto(id, "Old", "old@test.com", "333", "ADMIN", true, null, null, 0L));
 
     UserResponseDto result = userService.updateUser(id, dto);
 
     assertThat(result.getEmail()).isEqualTo("new@test.com");
+    assertThat(userCache.getByEmail("old@test.com")).isEmpty();
+    assertThat(userCache.get(id)).contains(result);
   }
 
   @Test
@@ -127,12 +235,98 @@ class UserServiceTest {
     existing.setId(id);
 
     when(userRepository.findById(id)).thenReturn(Optional.of(existing));
-    when(userRepository.findByEmail(dto.getEmail())).thenReturn(Optional.of(new User()));
+    when(userRepository.saveAndFlush(existing)).thenThrow(emailUniqueViolation());
 
     assertThatThrownBy(() -> userService.updateUser(id, dto))
         .isInstanceOf(DuplicateEmailException.class);
   }
 
+  // ---------------------------------------------------------
+  // PATCH USER
+  // ---------------------------------------------------------
+  @Test
+  void patchUser_appliesOnlySuppliedFields() {
+
+    UUID id = UUID.randomUUID();
+    User existing = new User("Old", "old@test.com", "333", "ADMIN");
+    existing.setId(id);
+
+    UserPatchDto patch = new UserPatchDto(null, null, "999", null, false);
+
+    when(userRepository.findById(id)).thenReturn(Optional.of(existing));
+    when(userRepository.saveAndFlush(existing)).thenReturn(existing);
+
+    UserResponseDto result = userService.patchUser(id, patch, null);
+
+    assertThat(result.getName()).isEqualTo("Old");
+    assertThat(result.getEmail()).isEqualTo("old@test.com");
+    assertThat(result.getPhone()).isEqualTo("999");
+    assertThat(result.getRole()).isEqualTo("ADMIN");
+    assertThat(result.getActive()).isFalse();
+  }
+
+  @Test
+  void patchUser_emptyPatch_writesNothing() {
+
+    UUID id = UUID.randomUUID();
+    User existing = new User("Old", "old@test.com", "333", "ADMIN");
+    existing.setId(id);
+
+    when(userRepository.findById(id)).thenReturn(Optional.of(existing));
+
+    UserResponseDto result = userService.patchUser(id, new UserPatchDto(), null);
+
+    assertThat(result.getName()).isEqualTo("Old");
+    verify(userRepository, never()).saveAndFlush(any());
+    verifyNoInteractions(outboxRepository, cacheInvalidator);
+    verify(userCache, never()).evict(any());
+  }
+
+  @Test
+  void patchUser_repeatingCurrentValues_writesNothing() {
+
+    UUID id = UUID.randomUUID();
+    User existing = new User("Old", "old@test.com", "333", "ADMIN");
+    existing.setId(id);
+
+    UserPatchDto patch = new UserPatchDto("Old", "OLD@test.com", "333", "ADMIN", true);
+
+    when(userRepository.findById(id)).thenReturn(Optional.of(existing));
+
+    UserResponseDto result = userService.patchUser(id, patch, null);
+
+    assertThat(result.getEmail()).isEqualTo("old@test.com");
+    verify(userRepository, never()).saveAndFlush(any());
+    verifyNoInteractions(outboxRepository, cacheInvalidator, registeredEmails);
+    verify(userCache, never()).evict(any());
+  }
+
+  @Test
+  void patchUser_staleVersion_rejectedBeforeWrite() {
+
+    UUID id = UUID.randomUUID();
+    User existing = new User("Old", "old@test.com", "333", "ADMIN");
+    existing.setId(id);
+
+    when(userRepository.findById(id)).thenReturn(Optional.of(existing));
+
+    UserPatchDto patch = new UserPatchDto("New", null, null, null, null);
+
+    assertThatThrownBy(() -> userService.patchUser(id, patch, 5L))
+        .isInstanceOf(VersionConflictException.class);
+    verify(userRepository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  void patchUser_notFound() {
+    UUID id = UUID.randomUUID();
+
+    when(userRepository.findById(id)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> userService.patchUser(id, new UserPatchDto(), null))
+        .isInstanceOf(UserNotFoundException.class);
+  }
+
   // ---------------------------------------------------------
   // DELETE USER
   // ---------------------------------------------------------
@@ -141,20 +335,22 @@ class UserServiceTest {
 
     UUID id = UUID.randomUUID();
 
-    when(userRepository.existsById(id)).thenReturn(true);
+    when(userRepository.softDeleteById(eq(id), any())).thenReturn(1);
 
     userService.deleteUser(id);
 
-    verify(userRepository).deleteById(id);
+    verify(outboxRepository).appendDeletes(List.of(id));
+    verify(cacheInvalidator).invalidate(id);
   }
 
   @Test
   void deleteUser_notFound() {
     UUID id = UUID.randomUUID();
 
-    when(userRepository.existsById(id)).thenReturn(false);
+    when(userRepository.softDeleteById(eq(id), any())).thenReturn(0);
 
     assertThatThrownBy(() -> userService.deleteUser(id)).isInstanceOf(UserNotFoundException.class);
+    verifyNoInteractions(outboxRepository);
   }
 
   // ---------------------------------------------------------
@@ -163,15 +359,91 @@ class UserServiceTest {
   @Test
   void getUsersPage_success() {
 
-    User u = new User("A", "a@a.com", "123", "USER");
-    u.setId(UUID.randomUUID());
+    Page<UserResponseDto> page = new PageImpl<>(List.of(response(UUID.randomUUID(), "a@a.com")));
 
-    Page<User> page = new PageImpl<>(List.of(u));
+    when(userRepository.findResponsePage(PageRequest.of(0, 10))).thenReturn(page);
 
-    when(userRepository.findAll(PageRequest.of(0, 10))).thenReturn(page);
-
-    Page<UserResponseDto> result = userService.getUsersPage(0, 10);
+    Page<UserResponseDto> result = userService.getUsersPage(PageRequest.of(0, 10));
 
     assertThat(result.getTotalElements()).isEqualTo(1);
   }
+
+  // ---------------------------------------------------------
+  // VERSION LOOKUPS
+  // ---------------------------------------------------------
+  @Test
+  void getUserVersion_cached_skipsRepository() {
+    UUID id = UUID.randomUUID();
+    userCache.put(new UserResponseDto(id, "A", "a@test.com", "1", "USER", true, null, null, 7L));
+
+    assertThat(userService.getUserVersion(id)).isEqualTo(7L);
+    verify(userRepository, never()).findVersionById(any());
+  }
+
+  @Test
+  void getUserVersion_lightweightLookup() {
+    UUID id = UUID.randomUUID();
+
+    when(userRepository.findVersionById(id)).thenReturn(Optional.of(3L));
+
+    assertThat(userService.getUserVersion(id)).isEqualTo(3L);
+    verify(userRepository, never()).findById(any());
+  }
+
+  @Test
+  void getUserVersion_notFound() {
+    UUID id = UUID.randomUUID();
+
+    when(userRepository.findVersionById(id)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> userService.getUserVersion(id))
+        .isInstanceOf(UserNotFoundException.class);
+  }
+
+  // ---------------------------------------------------------
+  // CURSOR PAGINATION
+  // ---------------------------------------------------------
+  @Test
+  void getUsersByCursor_firstPage_returnsNextCursor() {
+
+    UserResponseDto a = response(UUID.randomUUID(), "a@a.com");
+    UserResponseDto b = response(UUID.randomUUID(), "b@b.com");
+
+    when(userRepository.findFirstKeysetPage(PageRequest.of(0, 2))).thenReturn(List.of(a, b));
+
+    CursorPageResponse<UserResponseDto> result = userService.getUsersByCursor(null, 1, false);
+
+    assertThat(result.getItems()).hasSize(1);
+    assertThat(result.isHasNext()).isTrue();
+    assertThat(result.getEstimatedTotal()).isNull();
+
+    KeysetCursor next = KeysetCursor.decode(result.getNextCursor());
+    assertThat(next.id()).isEqualTo(a.getId());
+    assertThat(next.key()).isEqualTo(a.getCreatedAt().toString());
+    verify(userRepository, never()).count();
+  }
+
+  @Test
+  void getUsersByCursor_followsCursor_andEstimatesTotal() {
+
+    UserResponseDto a = response(UUID.randomUUID(), "a@a.com");
+    String cursor = new KeysetCursor(a.getCreatedAt().toString(), a.getId()).encode();
+
+    when(userRepository.findKeysetPageAfter(a.getCreatedAt(), a.getId(), PageRequest.of(0, 11)))
+        .thenReturn(List.of());
+    when(userRepository.estimateCount()).thenReturn(42L);
+
+    CursorPageResponse<UserResponseDto> result = userService.getUsersByCursor(cursor, 10, true);
+
+    assertThat(result.getItems()).isEmpty();
+    assertThat(result.isHasNext()).isFalse();
+    assertThat(result.getNextCursor()).isNull();
+    assertThat(result.getEstimatedTotal()).isEqualTo(42L);
+  }
+
+  @Test
+  void getUsersByCursor_invalidCursor() {
+    assertThatThrownBy(() -> userService.getUsersByCursor("not-a-cursor", 10, false))
+        .isInstanceOf(InvalidRequestException.class);
+  }
 }
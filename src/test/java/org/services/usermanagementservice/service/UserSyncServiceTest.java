@@ -0,0 +1,125 @@
+package org.services.usermanagementservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.usermanagementservice.dto.CursorPageResponse;
+import org.services.usermanagementservice.dto.UserSyncItemDto;
+import org.services.usermanagementservice.exception.InvalidRequestException;
+import org.services.usermanagementservice.exception.SyncCursorExpiredException;
+import org.services.usermanagementservice.pagination.KeysetCursor;
+import org.services.usermanagementservice.repository.UserSyncRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserSyncServiceTest {
+
+  @Mock private UserSyncRepository userSyncRepository;
+
+  private UserSyncService userSyncService;
+
+  @BeforeEach
+  void setUp() {
+    userSyncService =
+        new UserSyncService(userSyncRepository, Duration.ofSeconds(5), Duration.ofDays(30));
+  }
+
+  private static UserSyncItemDto tombstone(LocalDateTime updatedAt) {
+    return new UserSyncItemDto(UUID.randomUUID(), true, updatedAt, null);
+  }
+
+  @Test
+  void getChangesSince_fromStart_returnsTombstonesAndCursorOfLastRow() {
+    LocalDateTime t = LocalDateTime.now().minusMinutes(1);
+    UserSyncItemDto first = tombstone(t);
+    UserSyncItemDto second = tombstone(t.plusSeconds(1));
+    when(userSyncRepository.findChangedAfter(isNull(), isNull(), any(), eq(3)))
+        .thenReturn(List.of(first, second, tombstone(t.plusSeconds(2))));
+
+    CursorPageResponse<UserSyncItemDto> result = userSyncService.getChangesSince(null, 2);
+
+    assertThat(result.getItems()).containsExactly(first, second);
+    assertThat(result.isHasNext()).isTrue();
+    assertThat(KeysetCursor.decode(result.getNextCursor()))
+        .isEqualTo(new KeysetCursor(second.getUpdatedAt().toString(), second.getId()));
+  }
+
+  @Test
+  void getChangesSince_resumesAfterCursorBelowSettleHorizon() {
+    LocalDateTime t = LocalDateTime.now().minusHours(1);
+    UUID id = UUID.randomUUID();
+    String since = new KeysetCursor(t.toString(), id).encode();
+    ArgumentCaptor<LocalDateTime> horizon = ArgumentCaptor.forClass(LocalDateTime.class);
+    when(userSyncRepository.findChangedAfter(eq(t), eq(id), horizon.capture(), eq(11)))
+        .thenReturn(List.of());
+
+    CursorPageResponse<UserSyncItemDto> result = userSyncService.getChangesSince(since, 10);
+
+    assertThat(result.getItems()).isEmpty();
+    assertThat(result.isHasNext()).isFalse();
+    assertThat(result.getNextCursor()).isEqualTo(since);
+    assertThat(horizon.getValue()).isBefore(LocalDateTime.now().minusSeconds(4));
+  }
+
+  @Test
+  void getChangesSince_stopsBeforeOldestInFlightWrite() {
+    LocalDateTime writeStart = LocalDateTime.now().minusMinutes(10);
+    when(userSyncRepository.findOldestWriteStart()).thenReturn(Optional.of(writeStart));
+    when(userSyncRepository.findChangedAfter(isNull(), isNull(), any(), eq(11)))
+        .thenReturn(List.of());
+
+    userSyncService.getChangesSince(null, 10);
+
+    verify(userSyncRepository)
+        .findChangedAfter(isNull(), isNull(), eq(writeStart.minusSeconds(5)), eq(11));
+  }
+
+  @Test
+  void getChangesSince_fromScratchOverRowsOlderThanRetention_pagesThrough() {
+    LocalDateTime old = LocalDateTime.now().minusDays(60);
+    when(userSyncRepository.findPurgedThrough())
+        .thenReturn(Optional.of(LocalDateTime.now().minusDays(31)));
+    UserSyncItemDto first = tombstone(old);
+    UserSyncItemDto second = tombstone(old.plusSeconds(1));
+    when(userSyncRepository.findChangedAfter(isNull(), isNull(), any(), eq(2)))
+        .thenReturn(List.of(first, second));
+    when(userSyncRepository.findChangedAfter(
+            eq(first.getUpdatedAt()), eq(first.getId()), any(), eq(2)))
+        .thenReturn(List.of(second));
+
+    CursorPageResponse<UserSyncItemDto> page1 = userSyncService.getChangesSince(null, 1);
+    CursorPageResponse<UserSyncItemDto> page2 =
+        userSyncService.getChangesSince(page1.getNextCursor(), 1);
+
+    assertThat(page2.getItems()).containsExactly(second);
+    assertThat(page2.isHasNext()).isFalse();
+  }
+
+  @Test
+  void getChangesSince_tombstonePastCursorPurgedSinceIssue_isExpired() {
+    LocalDateTime position = LocalDateTime.now().minusDays(40);
+    String since =
+        new KeysetCursor(position + "/" + position.minusDays(1), UUID.randomUUID()).encode();
+    when(userSyncRepository.findPurgedThrough())
+        .thenReturn(Optional.of(LocalDateTime.now().minusDays(31)));
+
+    assertThatThrownBy(() -> userSyncService.getChangesSince(since, 10))
+        .isInstanceOf(SyncCursorExpiredException.class);
+    verify(userSyncRepository, never()).findChangedAfter(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void getChangesSince_malformedCursor() {
+    String since = new KeysetCursor("not-a-timestamp", UUID.randomUUID()).encode();
+
+    assertThatThrownBy(() -> userSyncService.getChangesSince(since, 10))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+}